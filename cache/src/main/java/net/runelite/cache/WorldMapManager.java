@@ -67,7 +67,7 @@ public class WorldMapManager
 		WorldMapCompositeLoader worldMapCompositeLoader = new WorldMapCompositeLoader();
 		worldMapCompositeLoader.configureForRevision(index.getRevision());
 
-		ArchiveFiles compositeMapFiles = compositeMapArchive.getFiles(storage.loadArchive(compositeMapArchive));
+		ArchiveFiles compositeMapFiles = store.getArchiveFiles(compositeMapArchive);
 		for (FSFile compositeFile : compositeMapFiles.getFiles())
 		{
 			WorldMapCompositeDefinition composite = worldMapCompositeLoader.load(compositeFile.getContents());
@@ -115,8 +115,17 @@ public class Archive
 
 	public ArchiveFiles getFiles(byte[] data, int[] keys) throws IOException
 	{
-		byte[] decompressedData = decompress(data, keys);
+		return loadFiles(decompress(data, keys));
+	}
 
+	/**
+	 * Split already decompressed archive contents into its files
+	 *
+	 * @param decompressedData decompressed archive contents
+	 * @return
+	 */
+	public ArchiveFiles loadFiles(byte[] decompressedData)
+	{
 		ArchiveFiles files = new ArchiveFiles();
 		for (FileData fileEntry : fileData)
 		{
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.Value;
+
+/**
+ * A cache of decompressed archive contents, bounded by the total size of
+ * the cached contents. Entries are keyed on the archive crc and revision,
+ * so archives which have been rewritten are not served stale.
+ */
+public class ArchiveCache
+{
+	@Value
+	private static class Key
+	{
+		int index;
+		int archive;
+		int revision;
+		int crc;
+	}
+
+	private final Cache<Key, byte[]> cache;
+
+	public ArchiveCache(long maximumBytes)
+	{
+		cache = CacheBuilder.newBuilder()
+			.maximumWeight(maximumBytes)
+			.weigher((Key key, byte[] contents) -> contents.length)
+			.recordStats()
+			.build();
+	}
+
+	byte[] get(Archive archive)
+	{
+		return cache.getIfPresent(key(archive));
+	}
+
+	void put(Archive archive, byte[] contents)
+	{
+		cache.put(key(archive), contents);
+	}
+
+	public void invalidateAll()
+	{
+		cache.invalidateAll();
+	}
+
+	public long size()
+	{
+		return cache.size();
+	}
+
+	/**
+	 * @return hit, miss and eviction counts of the cache
+	 */
+	public CacheStats stats()
+	{
+		return cache.stats();
+	}
+
+	private static Key key(Archive archive)
+	{
+		return new Key(archive.getIndex().getId(), archive.getArchiveId(), archive.getRevision(), archive.getCrc());
+	}
+}
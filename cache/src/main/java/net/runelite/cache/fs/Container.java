@@ -27,8 +27,9 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -37,6 +38,11 @@ import net.runelite.cache.util.Xtea;
 
 public class Container
 {
+	// upper bound on the decompressed length of a container, to reject garbage lengths read with the wrong keys
+	private static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+	// the maximum compression ratio of deflate
+	private static final int MAX_GZIP_RATIO = 1032;
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -92,94 +98,159 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		// decryption is done in place, so don't clobber the caller's data
+		ByteBuffer in = ByteBuffer.wrap(keys != null ? b.clone() : b);
+		ByteBuffer out = ByteBuffer.allocate(decompressedLength(in, keys));
+
+		Container container = decompress(in, keys, out);
+		container.data = out.array();
+		return container;
+	}
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+	/**
+	 * Read the decompressed length of the container at the buffer's position,
+	 * for sizing the output buffer passed to {@link #decompress(ByteBuffer, int[], ByteBuffer)}.
+	 * The buffer is not modified.
+	 *
+	 * @param in container data
+	 * @param keys xtea keys, or null
+	 * @return decompressed length
+	 * @throws IOException if the length is invalid, such as from decrypting with the wrong keys
+	 */
+	public static int decompressedLength(ByteBuffer in, int[] keys) throws IOException
+	{
+		int start = in.position();
+		int compression = in.get(start) & 0xFF;
+		int compressedLength = in.getInt(start + 1);
 		if (compressedLength < 0)
 		{
-			throw new RuntimeException("Invalid data");
+			throw new IOException("Invalid compressed length " + compressedLength);
 		}
 
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
-
-		byte[] data;
-		switch (compression)
+		if (compression == CompressionType.NONE)
 		{
-			case CompressionType.NONE:
+			if (compressedLength > in.limit() - start - 5)
 			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				data = decryptedData;
-
-				break;
+				throw new IOException("Invalid compressed length " + compressedLength);
 			}
-			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
+			return compressedLength;
+		}
 
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+		if (keys == null || compressedLength + 4 < 8)
+		{
+			return checkDecompressedLength(compression, compressedLength, in.getInt(start + 5));
+		}
 
-				InputStream decryptedStream = new InputStream(decryptedData);
+		// the length is in the first encrypted block
+		ByteBuffer block = ByteBuffer.allocate(8);
+		for (int i = 0; i < 8; ++i)
+		{
+			block.put(i, in.get(start + 5 + i));
+		}
+		new Xtea(keys).decrypt(block, 0, 8);
+		return checkDecompressedLength(compression, compressedLength, block.getInt(0));
+	}
 
-				int decompressedLength = decryptedStream.readInt();
-				data = BZip2.decompress(decryptedStream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+	private static int checkDecompressedLength(int compression, int compressedLength, int decompressedLength) throws IOException
+	{
+		long max = compression == CompressionType.GZ
+			? Math.min(MAX_DECOMPRESSED_LENGTH, (long) compressedLength * MAX_GZIP_RATIO)
+			: MAX_DECOMPRESSED_LENGTH;
+		if (decompressedLength < 0 || decompressedLength > max)
+		{
+			throw new IOException("Invalid decompressed length " + decompressedLength);
+		}
+		return decompressedLength;
+	}
 
-				break;
-			}
-			case CompressionType.GZ:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
+	/**
+	 * Decompress the container at the buffer's position into {@code out}. Encrypted
+	 * data is decrypted in place in {@code in}, and the compressed data is read
+	 * directly from it without being copied. {@code in} is left positioned after
+	 * the container, and {@code out} after the decompressed data.
+	 *
+	 * @param in container data
+	 * @param keys xtea keys, or null
+	 * @param out buffer to decompress into, which must have at least
+	 *            {@link #decompressedLength(ByteBuffer, int[])} bytes remaining
+	 * @return the container, without {@link #data} set
+	 * @throws IOException
+	 */
+	public static Container decompress(ByteBuffer in, int[] keys, ByteBuffer out) throws IOException
+	{
+		int start = in.position();
+		int compression = in.get(start) & 0xFF;
+		int compressedLength = in.getInt(start + 1);
+		if (compressedLength < 0)
+		{
+			throw new RuntimeException("Invalid data");
+		}
 
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+		int dataOffset = start + 5; // compression + length
+		int encryptedLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4;
+		int end = dataOffset + encryptedLength;
+		if (end > in.limit())
+		{
+			throw new BufferUnderflowException();
+		}
 
-				InputStream decryptedStream = new InputStream(decryptedData);
+		Crc32 crc32 = new Crc32();
+		crc32.update(view(in, start, end));
 
-				int decompressedLength = decryptedStream.readInt();
-				data = GZip.decompress(decryptedStream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+		if (keys != null)
+		{
+			new Xtea(keys).decrypt(in, dataOffset, encryptedLength);
+		}
 
+		switch (compression)
+		{
+			case CompressionType.NONE:
+				out.put(view(in, dataOffset, end));
+				break;
+			case CompressionType.BZ2:
+				BZip2.decompress(view(in, dataOffset + 4, end), out, checkDecompressedLength(compression, compressedLength, in.getInt(dataOffset), out));
+				break;
+			case CompressionType.GZ:
+				GZip.decompress(view(in, dataOffset + 4, end), out, checkDecompressedLength(compression, compressedLength, in.getInt(dataOffset), out));
 				break;
-			}
 			default:
 				throw new RuntimeException("Unknown compression type");
 		}
 
 		int revision = -1;
-		if (stream.remaining() >= 4)
+		int remaining = in.limit() - end;
+		if (remaining >= 4)
 		{
-			revision = stream.readInt();
+			revision = in.getInt(end);
+			end += 4;
 		}
-		else if (stream.remaining() >= 2)
+		else if (remaining >= 2)
 		{
-			revision = stream.readUnsignedShort();
+			revision = in.getShort(end) & 0xFFFF;
+			end += 2;
 		}
+		in.position(end);
 
 		Container container = new Container(compression, revision);
-		container.data = data;
 		container.crc = crc32.getHash();
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static int checkDecompressedLength(int compression, int compressedLength, int decompressedLength, ByteBuffer out) throws IOException
 	{
-		if (keys == null)
+		checkDecompressedLength(compression, compressedLength, decompressedLength);
+		if (decompressedLength > out.remaining())
 		{
-			return data;
+			throw new IOException("Decompressed length " + decompressedLength + " exceeds output buffer of " + out.remaining());
 		}
+		return decompressedLength;
+	}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+	private static ByteBuffer view(ByteBuffer buffer, int start, int end)
+	{
+		ByteBuffer view = buffer.duplicate();
+		view.limit(end).position(start);
+		return view;
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
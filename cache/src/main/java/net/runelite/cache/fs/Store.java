@@ -29,6 +29,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import lombok.EqualsAndHashCode;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
@@ -38,6 +39,7 @@ public final class Store implements Closeable
 {
 	private final Storage storage;
 	private final List<Index> indexes = new ArrayList<>();
+	private ArchiveCache archiveCache;
 
 	public Store(File folder) throws IOException
 	{
@@ -63,6 +65,20 @@ public final class Store implements Closeable
 		storage.close();
 	}
 
+	public ArchiveCache getArchiveCache()
+	{
+		return archiveCache;
+	}
+
+	/**
+	 * Set the cache used for decompressed archive contents returned from
+	 * {@link #decompressArchive(Archive, int[])}, or null to disable caching.
+	 */
+	public void setArchiveCache(ArchiveCache archiveCache)
+	{
+		this.archiveCache = archiveCache;
+	}
+
 	public Index addIndex(int id)
 	{
 		for (Index i : indexes)
@@ -90,11 +106,61 @@ public final class Store implements Closeable
 		storage.load(this);
 	}
 
+	public void load(Executor executor) throws IOException
+	{
+		storage.load(this, executor);
+	}
+
 	public void save() throws IOException
 	{
 		storage.save(this);
 	}
 
+	public byte[] decompressArchive(Archive archive) throws IOException
+	{
+		return decompressArchive(archive, null);
+	}
+
+	/**
+	 * Load and decompress the contents of an archive, using the archive
+	 * cache if one is set. The returned contents may be shared with other
+	 * callers and must not be modified.
+	 *
+	 * @param archive archive to load
+	 * @param keys xtea keys, or null
+	 * @return decompressed archive contents, or null if the archive is missing
+	 * @throws IOException
+	 */
+	public byte[] decompressArchive(Archive archive, int[] keys) throws IOException
+	{
+		ArchiveCache archiveCache = this.archiveCache;
+		if (archiveCache == null)
+		{
+			return archive.decompress(storage.loadArchive(archive), keys);
+		}
+
+		byte[] contents = archiveCache.get(archive);
+		if (contents == null)
+		{
+			contents = archive.decompress(storage.loadArchive(archive), keys);
+			if (contents != null)
+			{
+				archiveCache.put(archive, contents);
+			}
+		}
+		return contents;
+	}
+
+	public ArchiveFiles getArchiveFiles(Archive archive) throws IOException
+	{
+		byte[] contents = decompressArchive(archive);
+		if (contents == null)
+		{
+			return null;
+		}
+		return archive.loadFiles(contents);
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+
+/**
+ * A binary counterpart to {@link FlatStorage}. Each index is stored as a
+ * manifest of its archives, including the offset and length of each
+ * archive's contents, followed by the contents themselves. The files are
+ * memory mapped and archive contents are only copied out when they are
+ * loaded, so opening a store does not read every archive onto the heap.
+ */
+public class BinaryFlatStorage implements Storage
+{
+	protected static final String EXTENSION = ".flatbin";
+
+	private static final int MAGIC = 0x524c4642; // RLFB
+	private static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 4 + 4 + 4 * 4 + 2 + 4;
+	private static final int ARCHIVE_HEADER_SIZE = 8 * 4;
+	private static final int FILE_SIZE = 2 * 4;
+
+	@Value
+	private static class Entry
+	{
+		ByteBuffer buffer;
+		int offset;
+		int length;
+	}
+
+	private final File directory;
+	private final Map<Long, Entry> entries = new HashMap<>();
+	private final Map<Long, byte[]> data = new HashMap<>();
+
+	public BinaryFlatStorage(File directory)
+	{
+		this.directory = directory;
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		String[] idxs = directory.list((dir, name) -> name.endsWith(EXTENSION));
+		if (idxs == null)
+		{
+			throw new IOException("unable to list " + directory);
+		}
+
+		for (String idx : idxs)
+		{
+			int id = Integer.parseInt(idx.substring(0, idx.length() - EXTENSION.length()));
+			store.addIndex(id);
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		entries.clear();
+		data.clear();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index idx : store.getIndexes())
+		{
+			File file = new File(directory, idx.getId() + EXTENSION);
+			ByteBuffer buffer;
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+			{
+				if (channel.size() > Integer.MAX_VALUE)
+				{
+					throw new IOException("flatcache " + file + " is too large");
+				}
+
+				// the mapping remains valid after the channel is closed
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+
+			try
+			{
+				loadIndex(idx, buffer);
+			}
+			catch (RuntimeException ex)
+			{
+				throw new IOException("error reading flatcache " + file, ex);
+			}
+		}
+	}
+
+	private void loadIndex(Index idx, ByteBuffer buffer) throws IOException
+	{
+		if (buffer.getInt() != MAGIC)
+		{
+			throw new IOException("not a binary flatcache");
+		}
+
+		int version = buffer.getInt();
+		if (version != VERSION)
+		{
+			throw new IOException("unsupported binary flatcache version " + version);
+		}
+
+		idx.setProtocol(buffer.getInt());
+		idx.setRevision(buffer.getInt());
+		idx.setCompression(buffer.getInt());
+		idx.setCrc(buffer.getInt());
+		idx.setNamed(buffer.get() != 0);
+		idx.setSized(buffer.get() != 0);
+
+		int archives = buffer.getInt();
+		for (int i = 0; i < archives; ++i)
+		{
+			Archive archive = idx.addArchive(buffer.getInt());
+			archive.setNameHash(buffer.getInt());
+			archive.setRevision(buffer.getInt());
+			archive.setCrc(buffer.getInt());
+			archive.setCompression(buffer.getInt());
+
+			int offset = buffer.getInt();
+			int length = buffer.getInt();
+			if (length >= 0)
+			{
+				entries.put((long) idx.getId() << 32 | archive.getArchiveId(), new Entry(buffer, offset, length));
+			}
+
+			FileData[] fileData = new FileData[buffer.getInt()];
+			for (int j = 0; j < fileData.length; ++j)
+			{
+				FileData fd = fileData[j] = new FileData();
+				fd.setId(buffer.getInt());
+				fd.setNameHash(buffer.getInt());
+			}
+			archive.setFileData(fileData);
+		}
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		store.getIndexes().sort(Comparator.comparingInt(Index::getId));
+		for (Index idx : store.getIndexes())
+		{
+			List<Archive> archives = idx.getArchives();
+			List<byte[]> contents = new ArrayList<>(archives.size());
+
+			long offset = HEADER_SIZE;
+			for (Archive archive : archives)
+			{
+				contents.add(store.getStorage().loadArchive(archive));
+				offset += ARCHIVE_HEADER_SIZE + (long) archive.getFileData().length * FILE_SIZE;
+			}
+
+			File file = new File(directory, idx.getId() + EXTENSION);
+			// write to a new file, it may be mapped from an earlier load
+			File tmp = new File(directory, idx.getId() + EXTENSION + ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(idx.getProtocol());
+				out.writeInt(idx.getRevision());
+				out.writeInt(idx.getCompression());
+				out.writeInt(idx.getCrc());
+				out.writeBoolean(idx.isNamed());
+				out.writeBoolean(idx.isSized());
+				out.writeInt(archives.size());
+
+				for (int i = 0; i < archives.size(); ++i)
+				{
+					Archive archive = archives.get(i);
+					byte[] archiveContents = contents.get(i);
+
+					out.writeInt(archive.getArchiveId());
+					out.writeInt(archive.getNameHash());
+					out.writeInt(archive.getRevision());
+					out.writeInt(archive.getCrc());
+					out.writeInt(archive.getCompression());
+
+					if (archiveContents != null)
+					{
+						if (offset + archiveContents.length > Integer.MAX_VALUE)
+						{
+							throw new IOException("index " + idx.getId() + " is too large");
+						}
+
+						out.writeInt((int) offset);
+						out.writeInt(archiveContents.length);
+						offset += archiveContents.length;
+					}
+					else
+					{
+						out.writeInt(0);
+						out.writeInt(-1);
+					}
+
+					FileData[] fileData = archive.getFileData();
+					out.writeInt(fileData.length);
+					for (FileData fd : fileData)
+					{
+						out.writeInt(fd.getId());
+						out.writeInt(fd.getNameHash());
+					}
+				}
+
+				for (byte[] archiveContents : contents)
+				{
+					if (archiveContents != null)
+					{
+						out.write(archiveContents);
+					}
+				}
+			}
+
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@Override
+	public byte[] load(int index, int archive)
+	{
+		long key = (long) index << 32 | archive;
+		byte[] stored = data.get(key);
+		if (stored != null)
+		{
+			return stored;
+		}
+
+		Entry entry = entries.get(key);
+		if (entry == null)
+		{
+			return null;
+		}
+
+		byte[] contents = new byte[entry.getLength()];
+		ByteBuffer view = entry.getBuffer().duplicate();
+		view.position(entry.getOffset());
+		view.get(contents);
+		return contents;
+	}
+
+	@Override
+	public void store(int index, int archive, byte[] bytes)
+	{
+		data.put((long) index << 32 | archive, bytes);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Converts between the text {@link FlatStorage} and {@link BinaryFlatStorage} formats
+ */
+public class FlatStorageConverter
+{
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 2)
+		{
+			System.err.println("Usage: FlatStorageConverter <from directory> <to directory>");
+			System.exit(-1);
+			return;
+		}
+
+		File from = new File(args[0]);
+		File to = new File(args[1]);
+
+		String[] binaryFiles = from.list((dir, name) -> name.endsWith(BinaryFlatStorage.EXTENSION));
+		if (binaryFiles != null && binaryFiles.length > 0)
+		{
+			System.out.println("Converting binary flatcache " + from + " to text flatcache " + to);
+			toText(from, to);
+		}
+		else
+		{
+			System.out.println("Converting text flatcache " + from + " to binary flatcache " + to);
+			toBinary(from, to);
+		}
+	}
+
+	public static void toBinary(File textDirectory, File binaryDirectory) throws IOException
+	{
+		convert(new FlatStorage(textDirectory), new BinaryFlatStorage(binaryDirectory));
+	}
+
+	public static void toText(File binaryDirectory, File textDirectory) throws IOException
+	{
+		convert(new BinaryFlatStorage(binaryDirectory), new FlatStorage(textDirectory));
+	}
+
+	private static void convert(Storage from, Storage to) throws IOException
+	{
+		try (Store store = new Store(from))
+		{
+			store.load();
+			// contents are read through the store's storage, so this copies them over
+			to.save(store);
+		}
+	}
+}
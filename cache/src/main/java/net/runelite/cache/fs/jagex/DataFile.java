@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,8 +40,22 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	// each mapping must be smaller than 2GB, and is a whole number of sectors so no sector spans two mappings
+	private static final long SEGMENT_SIZE = (Integer.MAX_VALUE / SECTOR_SIZE) * (long) SECTOR_SIZE;
+
+	/**
+	 * A mapping of the data file, published as a whole so a read never sees
+	 * the segments of one mapping with the length of another
+	 */
+	@RequiredArgsConstructor
+	private static class Mapping
+	{
+		private final ByteBuffer[] segments;
+		private final long length;
+	}
 
 	private final RandomAccessFile dat;
+	private volatile Mapping mapping;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
@@ -49,14 +65,53 @@ public class DataFile implements Closeable
 	@Override
 	public void close() throws IOException
 	{
+		mapping = null;
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		mapping = null;
 		dat.setLength(0L);
 	}
 
+	/**
+	 * Force all writes to the file out to the storage device
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void sync() throws IOException
+	{
+		dat.getChannel().force(false);
+	}
+
+	/**
+	 * Map the data file into memory. While mapped, reads do not take the
+	 * file lock and may be issued concurrently from multiple threads. The
+	 * mapping is dropped on the next write, after which reads go through
+	 * the file again until it is remapped.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void map() throws IOException
+	{
+		FileChannel channel = dat.getChannel();
+		long length = channel.size();
+		ByteBuffer[] segments = new ByteBuffer[(int) ((length + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+		for (int i = 0; i < segments.length; ++i)
+		{
+			long position = i * SEGMENT_SIZE;
+			segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, length - position));
+		}
+
+		this.mapping = new Mapping(segments, length);
+	}
+
+	public boolean isMapped()
+	{
+		return mapping != null;
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -66,7 +121,18 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		Mapping mapping = this.mapping;
+		if (mapping != null)
+		{
+			return readMapped(mapping.segments, mapping.length, indexId, archiveId, sector, size);
+		}
+
+		return readFile(indexId, archiveId, sector, size);
+	}
+
+	private synchronized byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -169,80 +235,171 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
-	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
+	private static byte[] readMapped(ByteBuffer[] segments, long length, int indexId, int archiveId, int sector, int size)
 	{
-		int sector;
-		int startSector;
+		if (sector <= 0L || length / SECTOR_SIZE < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
+			return null;
+		}
 
-		byte[] writeBuffer = new byte[SECTOR_SIZE];
-		ByteBuffer data = ByteBuffer.wrap(compressedData);
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		byte[] data = new byte[size];
 
-		sector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			long position = (long) SECTOR_SIZE * sector;
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			if (position + headerSize + dataBlockSize > length)
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			ByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)];
+			int offset = (int) (position % SEGMENT_SIZE);
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = segment.getInt(offset);
+				currentPart = segment.getShort(offset + 4) & 0xFFFF;
+				nextSector = ((segment.get(offset + 6) & 0xFF) << 16)
+					| ((segment.get(offset + 7) & 0xFF) << 8)
+					| (segment.get(offset + 8) & 0xFF);
+				currentIndex = segment.get(offset + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = segment.getShort(offset) & 0xFFFF;
+				currentPart = segment.getShort(offset + 2) & 0xFFFF;
+				nextSector = ((segment.get(offset + 4) & 0xFF) << 16)
+					| ((segment.get(offset + 5) & 0xFF) << 8)
+					| (segment.get(offset + 6) & 0xFF);
+				currentIndex = segment.get(offset + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0 || length / SECTOR_SIZE < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			// absolute gets leave the shared buffer untouched, the bulk copy needs its own position
+			ByteBuffer view = segment.duplicate();
+			view.position(offset + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
+	public DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
+	{
+		return write(indexId, archiveId, compressedData, 0);
+	}
+
+	/**
+	 * Write an archive. The sectors are assembled in memory and written out
+	 * with one write per run of contiguous sectors.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param compressedData archive contents
+	 * @param reuseSector first sector of the existing copy of this archive, whose
+	 *                    sectors are overwritten before any new sectors are appended,
+	 *                    or 0 to append the archive to the end of the file
+	 * @return
+	 * @throws IOException
+	 */
+	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData, int reuseSector) throws IOException
+	{
+		// the mapping does not cover appended sectors
+		mapping = null;
+
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		final int blockSize = SECTOR_SIZE - headerSize;
+		final int numSectors = (compressedData.length + blockSize - 1) / blockSize;
+
+		int[] sectors = new int[numSectors];
+		int reused = reuseSector > 0 ? readChain(indexId, archiveId, reuseSector, sectors) : 0;
+
+		int sector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
 		if (sector == 0)
 		{
 			sector = 1;
 		}
-		startSector = sector;
+		int startSector = reused > 0 ? sectors[0] : sector;
 
-		for (int part = 0; data.hasRemaining(); ++part)
+		for (int i = reused; i < numSectors; ++i)
 		{
-			int nextSector = sector + 1; // we always just append sectors
-			int dataToWrite;
+			sectors[i] = sector++;
+		}
 
-			if (0xFFFF < archiveId)
-			{
-				if (data.remaining() <= 510)
-				{
-					nextSector = 0;
-				}
+		ByteBuffer buffer = ByteBuffer.allocate(numSectors * headerSize + compressedData.length);
+		for (int part = 0; part < numSectors; ++part)
+		{
+			int nextSector = part + 1 < numSectors ? sectors[part + 1] : 0;
 
-				writeBuffer[0] = (byte) (archiveId >> 24);
-				writeBuffer[1] = (byte) (archiveId >> 16);
-				writeBuffer[2] = (byte) (archiveId >> 8);
-				writeBuffer[3] = (byte) archiveId;
-				writeBuffer[4] = (byte) (part >> 8);
-				writeBuffer[5] = (byte) part;
-				writeBuffer[6] = (byte) (nextSector >> 16);
-				writeBuffer[7] = (byte) (nextSector >> 8);
-				writeBuffer[8] = (byte) nextSector;
-				writeBuffer[9] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 10);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 510)
-				{
-					dataToWrite = 510;
-				}
+			if (headerSize == 10)
+			{
+				buffer.putInt(archiveId);
 			}
 			else
 			{
-				if (data.remaining() <= 512)
-				{
-					nextSector = 0;
-				}
+				buffer.putShort((short) archiveId);
+			}
+			buffer.putShort((short) part);
+			buffer.put((byte) (nextSector >> 16));
+			buffer.put((byte) (nextSector >> 8));
+			buffer.put((byte) nextSector);
+			buffer.put((byte) indexId);
+
+			int offset = part * blockSize;
+			buffer.put(compressedData, offset, Math.min(blockSize, compressedData.length - offset));
+		}
 
-				writeBuffer[0] = (byte) (archiveId >> 8);
-				writeBuffer[1] = (byte) archiveId;
-				writeBuffer[2] = (byte) (part >> 8);
-				writeBuffer[3] = (byte) part;
-				writeBuffer[4] = (byte) (nextSector >> 16);
-				writeBuffer[5] = (byte) (nextSector >> 8);
-				writeBuffer[6] = (byte) nextSector;
-				writeBuffer[7] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 8);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 512)
-				{
-					dataToWrite = 512;
-				}
+		FileChannel channel = dat.getChannel();
+		for (int runStart = 0, i = 1; i <= numSectors; ++i)
+		{
+			if (i < numSectors && sectors[i] == sectors[i - 1] + 1)
+			{
+				continue;
 			}
 
-			data.get(writeBuffer, 0, dataToWrite);
-			dat.write(writeBuffer, 0, dataToWrite);
-			sector = nextSector;
+			ByteBuffer run = buffer.duplicate();
+			run.limit(Math.min(i * SECTOR_SIZE, buffer.capacity()));
+			run.position(runStart * SECTOR_SIZE);
+
+			long position = (long) SECTOR_SIZE * sectors[runStart];
+			while (run.hasRemaining())
+			{
+				position += channel.write(run, position);
+			}
+
+			runStart = i;
 		}
 
 		DataFileWriteResult res = new DataFileWriteResult();
@@ -250,4 +407,62 @@ public class DataFile implements Closeable
 		res.compressedLength = compressedData.length;
 		return res;
 	}
+
+	/**
+	 * Follow the sector chain of an archive, filling in up to {@code sectors.length} sectors
+	 *
+	 * @return the number of sectors found
+	 */
+	private int readChain(int indexId, int archiveId, int sector, int[] sectors) throws IOException
+	{
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		final long length = dat.length();
+		byte[] header = new byte[headerSize];
+
+		int part = 0;
+		while (part < sectors.length && sector > 0 && (long) SECTOR_SIZE * sector + headerSize <= length)
+		{
+			dat.seek((long) SECTOR_SIZE * sector);
+			dat.readFully(header);
+
+			int currentArchive;
+			int currentPart;
+			int nextSector;
+			int currentIndex;
+			if (headerSize == 10)
+			{
+				currentArchive = ((header[0] & 0xFF) << 24)
+					| ((header[1] & 0xFF) << 16)
+					| ((header[2] & 0xFF) << 8)
+					| (header[3] & 0xFF);
+				currentPart = ((header[4] & 0xFF) << 8) | (header[5] & 0xFF);
+				nextSector = ((header[6] & 0xFF) << 16)
+					| ((header[7] & 0xFF) << 8)
+					| (header[8] & 0xFF);
+				currentIndex = header[9] & 0xFF;
+			}
+			else
+			{
+				currentArchive = ((header[0] & 0xFF) << 8)
+					| (header[1] & 0xFF);
+				currentPart = ((header[2] & 0xFF) << 8)
+					| (header[3] & 0xFF);
+				nextSector = ((header[4] & 0xFF) << 16)
+					| ((header[5] & 0xFF) << 8)
+					| (header[6] & 0xFF);
+				currentIndex = header[7] & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				// this sector no longer belongs to the archive
+				break;
+			}
+
+			sectors[part++] = sector;
+			sector = nextSector;
+		}
+
+		return part;
+	}
 }
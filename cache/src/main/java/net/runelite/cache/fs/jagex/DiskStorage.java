@@ -24,11 +24,31 @@
  */
 package net.runelite.cache.fs.jagex;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -45,19 +65,46 @@ public class DiskStorage implements Storage
 
 	private static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
+	private static final String COMPACTED_DAT = MAIN_FILE_CACHE_DAT + ".tmp";
+	// the index entries of a compacted data file which has not been swapped in yet
+	private static final String COMPACT_JOURNAL = "main_file_cache.compact";
 
 	private final File folder;
+	private final boolean mapped;
 
-	private final DataFile data;
+	// swapped by compaction, see swapLock
+	private volatile DataFile data;
 	private final IndexFile index255;
-	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private boolean reuseSectors;
+	private final List<IndexFile> indexFiles = new CopyOnWriteArrayList<>();
+	// held for writing while compacting, and for reading by stores to keep them out of a compaction
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	// write locked while compaction swaps the data file and rewrites the index entries. Reads don't
+	// lock, but validate that no swap happened while they were reading, see optimisticRead
+	private final StampedLock swapLock = new StampedLock();
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * @param folder cache folder
+	 * @param mapped whether to memory map the data and index files. Mapped
+	 *               storage allows {@link #load(int, int)} to be called from
+	 *               many threads at once, and is intended for read-mostly use;
+	 *               any write drops the mapping of the file written to.
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean mapped) throws IOException
 	{
 		this.folder = folder;
+		this.mapped = mapped;
 
 		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
 		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+
+		recoverCompaction();
 	}
 
 	@Override
@@ -70,6 +117,27 @@ public class DiskStorage implements Storage
 		}
 
 		assert store.getIndexes().size() == indexFiles.size();
+
+		if (mapped)
+		{
+			map();
+		}
+	}
+
+	/**
+	 * (Re)map the data and index files, for example after writing to a
+	 * mapped storage.
+	 *
+	 * @throws IOException
+	 */
+	public void map() throws IOException
+	{
+		data.map();
+		index255.map();
+		for (IndexFile indexFile : indexFiles)
+		{
+			indexFile.map();
+		}
 	}
 
 	@Override
@@ -83,6 +151,217 @@ public class DiskStorage implements Storage
 		}
 	}
 
+	/**
+	 * Set whether archives being stored should overwrite the sectors of their
+	 * previous version, rather than always being appended to the data file.
+	 * This keeps the data file from growing on every save, but an interrupted
+	 * write leaves the previous version of the archive unreadable.
+	 */
+	public void setReuseSectors(boolean reuseSectors)
+	{
+		this.reuseSectors = reuseSectors;
+	}
+
+	/**
+	 * Rewrite the data file with every archive stored contiguously, dropping
+	 * sectors which are no longer referenced by any index. Writes block until
+	 * compaction is done, and reads block while the compacted data file is
+	 * swapped in.
+	 * <p>
+	 * The compacted data file and a journal of the new index entries are
+	 * written and synced before anything is replaced. If compaction is
+	 * interrupted after that, it is finished the next time the storage is
+	 * opened; if it is interrupted before, the old files are left untouched.
+	 *
+	 * @throws IOException
+	 */
+	public void compact() throws IOException
+	{
+		lock.writeLock().lock();
+		try
+		{
+			long oldLength = new File(folder, MAIN_FILE_CACHE_DAT).length();
+
+			List<IndexEntry> entries = prepareCompaction();
+			finishCompaction(entries);
+
+			if (mapped)
+			{
+				map();
+			}
+
+			logger.debug("Compacted data file from {} to {} bytes", oldLength, new File(folder, MAIN_FILE_CACHE_DAT).length());
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Write the compacted data file and the journal of its index entries
+	 *
+	 * @return the new index entries
+	 */
+	List<IndexEntry> prepareCompaction() throws IOException
+	{
+		File compactedFile = new File(folder, COMPACTED_DAT);
+
+		List<IndexFile> files = new ArrayList<>();
+		files.add(index255);
+		files.addAll(indexFiles);
+
+		List<IndexEntry> entries = new ArrayList<>();
+		try
+		{
+			try (DataFile compacted = new DataFile(compactedFile))
+			{
+				compacted.clear();
+
+				for (IndexFile indexFile : files)
+				{
+					for (int id = 0, count = indexFile.getIndexCount(); id < count; ++id)
+					{
+						IndexEntry entry = indexFile.read(id);
+						if (entry == null)
+						{
+							continue;
+						}
+
+						byte[] archiveData = data.read(indexFile.getIndexFileId(), id, entry.getSector(), entry.getLength());
+						if (archiveData == null)
+						{
+							logger.warn("Dropping unreadable archive {}/{} during compaction", indexFile.getIndexFileId(), id);
+							entries.add(new IndexEntry(indexFile, id, 0, 0));
+							continue;
+						}
+
+						DataFileWriteResult res = compacted.write(indexFile.getIndexFileId(), id, archiveData);
+						entries.add(new IndexEntry(indexFile, id, res.sector, res.compressedLength));
+					}
+				}
+
+				compacted.sync();
+			}
+
+			writeJournal(entries);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			Files.deleteIfExists(compactedFile.toPath());
+			throw ex;
+		}
+		return entries;
+	}
+
+	/**
+	 * Swap in the compacted data file, if it hasn't been already, and rewrite the index entries
+	 */
+	private void finishCompaction(List<IndexEntry> entries) throws IOException
+	{
+		File datFile = new File(folder, MAIN_FILE_CACHE_DAT);
+		File compactedFile = new File(folder, COMPACTED_DAT);
+
+		Set<IndexFile> written = new LinkedHashSet<>();
+		long stamp = swapLock.writeLock();
+		try
+		{
+			if (compactedFile.exists())
+			{
+				data.close();
+				Files.move(compactedFile.toPath(), datFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				syncFolder();
+				data = new DataFile(datFile);
+			}
+
+			for (IndexEntry entry : entries)
+			{
+				entry.getIndexFile().write(entry);
+				written.add(entry.getIndexFile());
+			}
+		}
+		finally
+		{
+			swapLock.unlockWrite(stamp);
+		}
+
+		for (IndexFile indexFile : written)
+		{
+			indexFile.sync();
+		}
+
+		Files.delete(new File(folder, COMPACT_JOURNAL).toPath());
+	}
+
+	private void recoverCompaction() throws IOException
+	{
+		File journal = new File(folder, COMPACT_JOURNAL);
+		if (journal.exists())
+		{
+			logger.info("Finishing interrupted compaction of {}", folder);
+			finishCompaction(readJournal(journal));
+		}
+		else
+		{
+			// compaction was interrupted before the journal was written, and nothing was replaced
+			Files.deleteIfExists(new File(folder, COMPACTED_DAT).toPath());
+			Files.deleteIfExists(new File(folder, COMPACT_JOURNAL + ".tmp").toPath());
+		}
+	}
+
+	private void writeJournal(List<IndexEntry> entries) throws IOException
+	{
+		File journal = new File(folder, COMPACT_JOURNAL);
+		File journalTmp = new File(folder, COMPACT_JOURNAL + ".tmp");
+
+		try (FileOutputStream fout = new FileOutputStream(journalTmp))
+		{
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fout));
+			out.writeInt(entries.size());
+			for (IndexEntry entry : entries)
+			{
+				out.writeByte(entry.getIndexFile().getIndexFileId());
+				out.writeInt(entry.getId());
+				out.writeInt(entry.getSector());
+				out.writeInt(entry.getLength());
+			}
+			out.flush();
+			fout.getChannel().force(true);
+		}
+
+		// the journal appearing is what commits the compaction
+		Files.move(journalTmp.toPath(), journal.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		syncFolder();
+	}
+
+	private List<IndexEntry> readJournal(File journal) throws IOException
+	{
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journal))))
+		{
+			int count = in.readInt();
+			List<IndexEntry> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; ++i)
+			{
+				IndexFile indexFile = getIndex(in.readUnsignedByte());
+				entries.add(new IndexEntry(indexFile, in.readInt(), in.readInt(), in.readInt()));
+			}
+			return entries;
+		}
+	}
+
+	private void syncFolder()
+	{
+		// make renames in the folder durable. Directories can't be opened on all platforms, notably Windows.
+		try (FileChannel channel = FileChannel.open(folder.toPath(), StandardOpenOption.READ))
+		{
+			channel.force(true);
+		}
+		catch (IOException ex)
+		{
+			logger.debug("unable to sync folder {}", folder, ex);
+		}
+	}
+
 	private IndexFile getIndex(int i) throws FileNotFoundException
 	{
 		if (i == 255)
@@ -90,6 +369,26 @@ public class DiskStorage implements Storage
 			return index255;
 		}
 
+		IndexFile indexFile = findIndex(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
+
+		synchronized (indexFiles)
+		{
+			indexFile = findIndex(i);
+			if (indexFile == null)
+			{
+				indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
+				indexFiles.add(indexFile);
+			}
+			return indexFile;
+		}
+	}
+
+	private IndexFile findIndex(int i)
+	{
 		for (IndexFile indexFile : indexFiles)
 		{
 			if (indexFile.getIndexFileId() == i)
@@ -97,10 +396,7 @@ public class DiskStorage implements Storage
 				return indexFile;
 			}
 		}
-
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
-		indexFiles.add(indexFile);
-		return indexFile;
+		return null;
 	}
 
 	@Override
@@ -112,16 +408,97 @@ public class DiskStorage implements Storage
 		}
 	}
 
+	@Override
+	public void load(Store store, Executor executor) throws IOException
+	{
+		// each task only touches its own index, so they can be populated concurrently
+		CompletableFuture<?>[] futures = store.getIndexes().stream()
+			.map(index -> CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					loadIndex(index);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, executor))
+			.toArray(CompletableFuture[]::new);
+
+		try
+		{
+			CompletableFuture.allOf(futures).join();
+		}
+		catch (CompletionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw ex;
+		}
+	}
+
 	public byte[] readIndex(int indexId) throws IOException
 	{
-		IndexEntry entry = index255.read(indexId);
-		if (entry == null)
+		return optimisticRead(() ->
 		{
-			return null;
+			IndexEntry entry = index255.read(indexId);
+			if (entry == null)
+			{
+				return null;
+			}
+
+			byte[] indexData = data.read(index255.getIndexFileId(), entry.getId(), entry.getSector(), entry.getLength());
+			return indexData;
+		});
+	}
+
+	@FunctionalInterface
+	private interface Read
+	{
+		byte[] read() throws IOException;
+	}
+
+	/**
+	 * Run a read without locking, and run it again under the swap lock if a
+	 * compaction swapped the data file or rewrote index entries while it ran.
+	 * The read may see a closed data file or a mix of old and new index
+	 * entries in that case, so its result or exception is only used if the
+	 * stamp is still valid.
+	 */
+	private byte[] optimisticRead(Read read) throws IOException
+	{
+		long stamp = swapLock.tryOptimisticRead();
+		if (stamp != 0L)
+		{
+			try
+			{
+				byte[] result = read.read();
+				if (swapLock.validate(stamp))
+				{
+					return result;
+				}
+			}
+			catch (IOException | RuntimeException ex)
+			{
+				if (swapLock.validate(stamp))
+				{
+					throw ex;
+				}
+			}
 		}
 
-		byte[] indexData = data.read(index255.getIndexFileId(), entry.getId(), entry.getSector(), entry.getLength());
-		return indexData;
+		stamp = swapLock.readLock();
+		try
+		{
+			return read.read();
+		}
+		finally
+		{
+			swapLock.unlockRead(stamp);
+		}
 	}
 
 	private void loadIndex(Index index) throws IOException
@@ -195,20 +572,23 @@ public class DiskStorage implements Storage
 
 		assert indexFile.getIndexFileId() == index;
 
-		IndexEntry entry = indexFile.read(archive);
-		if (entry == null)
+		return optimisticRead(() ->
 		{
-			logger.debug("can't read archive {} from index {}", archive, index);
-			return null;
-		}
+			IndexEntry entry = indexFile.read(archive);
+			if (entry == null)
+			{
+				logger.debug("can't read archive {} from index {}", archive, index);
+				return null;
+			}
 
-		assert entry.getId() == archive;
+			assert entry.getId() == archive;
 
-		logger.trace("Loading archive {} for index {} from sector {} length {}",
-			archive, index, entry.getSector(), entry.getLength());
+			logger.trace("Loading archive {} for index {} from sector {} length {}",
+				archive, index, entry.getSector(), entry.getLength());
 
-		byte[] archiveData = data.read(index, entry.getId(), entry.getSector(), entry.getLength());
-		return archiveData;
+			byte[] archiveData = data.read(index, entry.getId(), entry.getSector(), entry.getLength());
+			return archiveData;
+		});
 	}
 
 	@Override
@@ -217,10 +597,29 @@ public class DiskStorage implements Storage
 		IndexFile indexFile = getIndex(index);
 		assert indexFile.getIndexFileId() == index;
 
-		DataFileWriteResult res = data.write(index, archive, archiveData);
-		indexFile.write(new IndexEntry(indexFile, archive, res.sector, res.compressedLength));
+		// stores are serialized by the files themselves, the lock only keeps them out of a compaction
+		lock.readLock().lock();
+		try
+		{
+			int reuseSector = 0;
+			if (reuseSectors)
+			{
+				IndexEntry entry = indexFile.read(archive);
+				if (entry != null)
+				{
+					reuseSector = entry.getSector();
+				}
+			}
+
+			DataFileWriteResult res = data.write(index, archive, archiveData, reuseSector);
+			indexFile.write(new IndexEntry(indexFile, archive, res.sector, res.compressedLength));
 
-		logger.trace("Saved archive {}/{} at sector {}, compressed length {}",
-			index, archive, res.sector, res.compressedLength);
+			logger.trace("Saved archive {}/{} at sector {}, compressed length {}",
+				index, archive, res.sector, res.compressedLength);
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
 	}
 }
@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -46,6 +48,7 @@ public class IndexFile implements Closeable
 	private final File file;
 	private final RandomAccessFile idx;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
+	private volatile ByteBuffer mapped;
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
 	{
@@ -57,16 +60,43 @@ public class IndexFile implements Closeable
 	@Override
 	public void close() throws IOException
 	{
+		mapped = null;
 		idx.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		mapped = null;
 		idx.setLength(0L);
 	}
 
+	/**
+	 * Force all writes to the file out to the storage device
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void sync() throws IOException
+	{
+		idx.getChannel().force(false);
+	}
+
+	/**
+	 * Map the index file into memory so that reads may be issued
+	 * concurrently without locking. The mapping is dropped on the next
+	 * write.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void map() throws IOException
+	{
+		FileChannel channel = idx.getChannel();
+		mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+	}
+
 	public synchronized void write(IndexEntry entry) throws IOException
 	{
+		mapped = null;
+
 		idx.seek(entry.getId() * INDEX_ENTRY_LEN);
 
 		buffer[0] = (byte) (entry.getLength() >> 16);
@@ -80,7 +110,34 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
+	{
+		ByteBuffer mapped = this.mapped;
+		if (mapped == null)
+		{
+			return readFile(id);
+		}
+
+		int position = id * INDEX_ENTRY_LEN;
+		if (position < 0 || position + INDEX_ENTRY_LEN > mapped.limit())
+		{
+			logger.debug("short read for id {} on index {}", id, indexFileId);
+			return null;
+		}
+
+		int length = ((mapped.get(position) & 0xFF) << 16) | ((mapped.get(position + 1) & 0xFF) << 8) | (mapped.get(position + 2) & 0xFF);
+		int sector = ((mapped.get(position + 3) & 0xFF) << 16) | ((mapped.get(position + 4) & 0xFF) << 8) | (mapped.get(position + 5) & 0xFF);
+
+		if (length <= 0 || sector <= 0)
+		{
+			logger.debug("invalid length or sector {}/{}", length, sector);
+			return null;
+		}
+
+		return new IndexEntry(this, id, sector, length);
+	}
+
+	private synchronized IndexEntry readFile(int id) throws IOException
 	{
 		idx.seek(id * INDEX_ENTRY_LEN);
 		int i = idx.read(buffer);
@@ -36,7 +36,6 @@ import net.runelite.cache.definitions.loaders.LocationsLoader;
 import net.runelite.cache.definitions.loaders.MapLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.KeyProvider;
 
@@ -85,7 +84,6 @@ public class RegionLoader
 		int x = i >> 8;
 		int y = i & 0xFF;
 
-		Storage storage = store.getStorage();
 		byte[] data;
 		if (index.isNamed())
 		{
@@ -95,7 +93,7 @@ public class RegionLoader
 				return null;
 			}
 
-			data = map.decompress(storage.loadArchive(map));
+			data = store.decompressArchive(map);
 		}
 		else
 		{
@@ -105,7 +103,7 @@ public class RegionLoader
 				return null;
 			}
 
-			data = archive.getFiles(storage.loadArchive(archive))
+			data = store.getArchiveFiles(archive)
 				.findFile(0)
 				.getContents();
 		}
@@ -118,7 +116,6 @@ public class RegionLoader
 		int x = i >> 8;
 		int y = i & 0xFF;
 
-		Storage storage = store.getStorage();
 		byte[] data;
 		if (index.isNamed())
 		{
@@ -134,7 +131,7 @@ public class RegionLoader
 				return null;
 			}
 
-			data = locs.decompress(storage.loadArchive(locs), keys);
+			data = store.decompressArchive(locs, keys);
 		}
 		else
 		{
@@ -144,7 +141,7 @@ public class RegionLoader
 				return null;
 			}
 
-			data = archive.getFiles(storage.loadArchive(archive))
+			data = store.getArchiveFiles(archive)
 				.findFile(1)
 				.getContents();
 		}
@@ -30,6 +30,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
@@ -142,4 +144,27 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress the remaining bytes of {@code compressed}, which has no bzip2 header,
+	 * into {@code out} without copying the compressed data.
+	 *
+	 * @param compressed compressed data
+	 * @param out buffer to decompress into
+	 * @param decompressedLength length of the decompressed data
+	 * @throws IOException
+	 */
+	public static void decompress(ByteBuffer compressed, ByteBuffer out, int decompressedLength) throws IOException
+	{
+		InputStream data = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteBufferInputStream(compressed));
+
+		try (InputStream is = new BZip2CompressorInputStream(data))
+		{
+			ByteBufferInputStream.readFully(is, out, decompressedLength);
+			if (is.read() != -1)
+			{
+				throw new IOException("Decompressed data is longer than " + decompressedLength + " bytes");
+			}
+		}
+	}
 }
@@ -25,6 +25,7 @@
 
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32;
 
 public class Crc32
@@ -36,6 +37,11 @@ public class Crc32
 		crc32.update(data, offset, length);
 	}
 
+	public void update(ByteBuffer data)
+	{
+		crc32.update(data);
+	}
+
 	public int getHash()
 	{
 		return (int) crc32.getValue();
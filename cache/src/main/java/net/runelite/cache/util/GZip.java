@@ -30,6 +30,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -61,4 +62,25 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress the remaining bytes of {@code compressed} into {@code out}
+	 * without copying the compressed data.
+	 *
+	 * @param compressed compressed data
+	 * @param out buffer to decompress into
+	 * @param decompressedLength length of the decompressed data
+	 * @throws IOException
+	 */
+	public static void decompress(ByteBuffer compressed, ByteBuffer out, int decompressedLength) throws IOException
+	{
+		try (InputStream is = new GZIPInputStream(new ByteBufferInputStream(compressed)))
+		{
+			ByteBufferInputStream.readFully(is, out, decompressedLength);
+			if (is.read() != -1)
+			{
+				throw new IOException("Decompressed data is longer than " + decompressedLength + " bytes");
+			}
+		}
+	}
 }
@@ -24,8 +24,8 @@
  */
 package net.runelite.cache.util;
 
-import net.runelite.cache.io.InputStream;
-import net.runelite.cache.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 public class Xtea
 {
@@ -42,47 +42,144 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		byte[] out = data.clone();
+		encrypt(out, 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = data.clone();
+		decrypt(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypt {@code len} bytes of {@code data} starting at {@code offset} in place.
+	 * Trailing bytes which do not fill a whole block are left as is.
+	 */
+	public void encrypt(byte[] data, int offset, int len)
+	{
+		for (int pos = offset, end = offset + (len & ~7); pos < end; pos += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
-			int sum = 0;
-			for (int i = 0; i < ROUNDS; ++i)
-			{
-				v0 += (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
-				sum += GOLDEN_RATIO;
-				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
-			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			putLong(data, pos, encryptBlock(getLong(data, pos)));
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypt {@code len} bytes of {@code data} starting at {@code offset} in place.
+	 * Trailing bytes which do not fill a whole block are left as is.
+	 */
+	public void decrypt(byte[] data, int offset, int len)
+	{
+		for (int pos = offset, end = offset + (len & ~7); pos < end; pos += 8)
+		{
+			putLong(data, pos, decryptBlock(getLong(data, pos)));
+		}
+	}
+
+	/**
+	 * Encrypt {@code len} bytes of {@code buffer} starting at {@code offset} in place.
+	 * The buffer's position and limit are not changed.
+	 */
+	public void encrypt(ByteBuffer buffer, int offset, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		if (buffer.hasArray())
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
-			int sum = GOLDEN_RATIO * ROUNDS;
-			for (int i = 0; i < ROUNDS; ++i)
-			{
-				v1 -= (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
-				sum -= GOLDEN_RATIO;
-				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
-			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			encrypt(buffer.array(), buffer.arrayOffset() + offset, len);
+			return;
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
+
+		ByteBuffer buf = bigEndian(buffer);
+		for (int pos = offset, end = offset + (len & ~7); pos < end; pos += 8)
+		{
+			buf.putLong(pos, encryptBlock(buf.getLong(pos)));
+		}
+	}
+
+	/**
+	 * Decrypt {@code len} bytes of {@code buffer} starting at {@code offset} in place.
+	 * Trailing bytes which do not fill a whole block are left as is. The
+	 * buffer's position and limit are not changed.
+	 */
+	public void decrypt(ByteBuffer buffer, int offset, int len)
+	{
+		if (buffer.hasArray())
+		{
+			decrypt(buffer.array(), buffer.arrayOffset() + offset, len);
+			return;
+		}
+
+		ByteBuffer buf = bigEndian(buffer);
+		for (int pos = offset, end = offset + (len & ~7); pos < end; pos += 8)
+		{
+			buf.putLong(pos, decryptBlock(buf.getLong(pos)));
+		}
+	}
+
+	/**
+	 * Encrypt one block, given as its two big endian words packed into a long
+	 */
+	private long encryptBlock(long block)
+	{
+		int v0 = (int) (block >>> 32);
+		int v1 = (int) block;
+		int sum = 0;
+		for (int i = 0; i < ROUNDS; ++i)
+		{
+			v0 += (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+			sum += GOLDEN_RATIO;
+			v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+		}
+		return ((long) v0 << 32) | (v1 & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Decrypt one block, given as its two big endian words packed into a long
+	 */
+	private long decryptBlock(long block)
+	{
+		int v0 = (int) (block >>> 32);
+		int v1 = (int) block;
+		int sum = GOLDEN_RATIO * ROUNDS;
+		for (int i = 0; i < ROUNDS; ++i)
+		{
+			v1 -= (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+			sum -= GOLDEN_RATIO;
+			v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+		}
+		return ((long) v0 << 32) | (v1 & 0xFFFFFFFFL);
+	}
+
+	private static long getLong(byte[] data, int pos)
+	{
+		return ((long) getInt(data, pos) << 32) | (getInt(data, pos + 4) & 0xFFFFFFFFL);
+	}
+
+	private static void putLong(byte[] data, int pos, long value)
+	{
+		putInt(data, pos, (int) (value >>> 32));
+		putInt(data, pos + 4, (int) value);
+	}
+
+	private static int getInt(byte[] data, int pos)
+	{
+		return ((data[pos] & 0xFF) << 24)
+			| ((data[pos + 1] & 0xFF) << 16)
+			| ((data[pos + 2] & 0xFF) << 8)
+			| (data[pos + 3] & 0xFF);
+	}
+
+	private static void putInt(byte[] data, int pos, int value)
+	{
+		data[pos] = (byte) (value >> 24);
+		data[pos + 1] = (byte) (value >> 16);
+		data[pos + 2] = (byte) (value >> 8);
+		data[pos + 3] = (byte) value;
+	}
+
+	private static ByteBuffer bigEndian(ByteBuffer buffer)
+	{
+		return buffer.order() == ByteOrder.BIG_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
 	}
 }
@@ -25,9 +25,14 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +57,68 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressBuffer() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		Container container = new Container(BZ2, 42);
+		container.compress(data, keys);
+
+		ByteBuffer in = ByteBuffer.wrap(container.data);
+		ByteBuffer out = ByteBuffer.allocateDirect(4096);
+		assertEquals(data.length, Container.decompressedLength(in, keys));
+
+		Container res = Container.decompress(in, keys, out);
+		assertFalse(in.hasRemaining());
+		assertEquals(container.crc, res.crc);
+		assertEquals(42, res.revision);
+
+		out.flip();
+		byte[] decompressed = new byte[out.remaining()];
+		out.get(decompressed);
+		assertArrayEquals(data, decompressed);
+	}
+
+	@Test
+	public void testDecompressWrongKeys() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{BZ2, GZ})
+		{
+			Container container = new Container(compression, -1);
+			container.compress(data, keys);
+
+			for (int i = 0; i < 100; ++i)
+			{
+				int[] wrongKeys = new int[]
+				{
+					random.nextInt(), random.nextInt(), random.nextInt(), random.nextInt()
+				};
+
+				try
+				{
+					Container.decompress(container.data, wrongKeys);
+					fail("decompressed with the wrong keys");
+				}
+				catch (IOException ex)
+				{
+					// expected
+				}
+			}
+		}
+	}
 }
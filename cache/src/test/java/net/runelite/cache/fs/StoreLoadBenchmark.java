@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares sequential and parallel store loads. Each round opens fresh stores and alternates which
+ * load goes first, so neither is favoured by running after the other has warmed the JIT or the
+ * page cache. The page cache is not dropped between rounds, so this measures a warm open; drop it
+ * externally (e.g. {@code echo 1 > /proc/sys/vm/drop_caches}) before a run for a cold first round.
+ */
+@Ignore
+public class StoreLoadBenchmark
+{
+	private static final Logger logger = LoggerFactory.getLogger(StoreLoadBenchmark.class);
+
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int ROUNDS = 20;
+
+	@Test
+	public void benchmarkLoad() throws IOException
+	{
+		benchmark(false);
+		benchmark(true);
+	}
+
+	private void benchmark(boolean mapped) throws IOException
+	{
+		final long[] sequential = new long[ROUNDS];
+		final long[] parallel = new long[ROUNDS];
+
+		for (int i = -WARMUP_ROUNDS; i < ROUNDS; ++i)
+		{
+			final boolean parallelFirst = (i & 1) != 0;
+			final long first = load(mapped, parallelFirst);
+			final long second = load(mapped, !parallelFirst);
+
+			if (i >= 0)
+			{
+				sequential[i] = parallelFirst ? second : first;
+				parallel[i] = parallelFirst ? first : second;
+			}
+		}
+
+		logger.info("{} storage, {} rounds: sequential median {}ms (min {}ms), parallel median {}ms (min {}ms)",
+			mapped ? "Mapped" : "Unmapped", ROUNDS,
+			median(sequential) / 1_000_000L, min(sequential) / 1_000_000L,
+			median(parallel) / 1_000_000L, min(parallel) / 1_000_000L);
+	}
+
+	private static long load(boolean mapped, boolean parallel) throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(StoreLocation.LOCATION, mapped)))
+		{
+			final long start = System.nanoTime();
+			if (parallel)
+			{
+				store.load(ForkJoinPool.commonPool());
+			}
+			else
+			{
+				store.load();
+			}
+			return System.nanoTime() - start;
+		}
+	}
+
+	private static long median(long[] times)
+	{
+		final long[] sorted = times.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private static long min(long[] times)
+	{
+		return Arrays.stream(times).min().orElse(0L);
+	}
+}
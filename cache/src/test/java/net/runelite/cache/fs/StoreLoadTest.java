@@ -27,7 +27,9 @@ package net.runelite.cache.fs;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -47,6 +49,22 @@ public class StoreLoadTest
 		}
 	}
 
+	@Test
+	public void testParallelLoad() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION);
+			Store parallelStore = new Store(StoreLocation.LOCATION);
+			Store mappedStore = new Store(new DiskStorage(StoreLocation.LOCATION, true)))
+		{
+			store.load();
+			parallelStore.load(ForkJoinPool.commonPool());
+			mappedStore.load(ForkJoinPool.commonPool());
+
+			Assert.assertTrue(store.equals(parallelStore));
+			Assert.assertTrue(store.equals(mappedStore));
+		}
+	}
+
 	@Test
 	public void testSave() throws IOException
 	{
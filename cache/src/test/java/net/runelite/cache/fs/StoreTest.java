@@ -151,4 +151,40 @@ public class StoreTest
 			}
 		}
 	}
+
+	@Test
+	public void testArchiveCache() throws IOException
+	{
+		try (Store store = new Store(folder.getRoot()))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[1]);
+			archive.getFileData()[0] = new FileData();
+
+			Container container = new Container(archive.getCompression(), -1);
+			container.compress("test".getBytes(), null);
+			archive.setCrc(container.crc);
+			store.getStorage().saveArchive(archive, container.data);
+
+			ArchiveCache archiveCache = new ArchiveCache(1024);
+			store.setArchiveCache(archiveCache);
+
+			byte[] contents = store.decompressArchive(archive);
+			Assert.assertArrayEquals("test".getBytes(), contents);
+			Assert.assertSame(contents, store.decompressArchive(archive));
+			Assert.assertEquals("test", new String(store.getArchiveFiles(archive).findFile(0).getContents()));
+			Assert.assertEquals(1, archiveCache.stats().missCount());
+			Assert.assertEquals(2, archiveCache.stats().hitCount());
+
+			// rewritten archives are keyed on their new crc
+			container = new Container(archive.getCompression(), -1);
+			container.compress("test2".getBytes(), null);
+			archive.setCrc(container.crc);
+			store.getStorage().saveArchive(archive, container.data);
+
+			Assert.assertArrayEquals("test2".getBytes(), store.decompressArchive(archive));
+			Assert.assertEquals(2, archiveCache.stats().missCount());
+		}
+	}
 }
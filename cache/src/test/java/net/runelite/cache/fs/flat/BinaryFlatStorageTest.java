@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.File;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryFlatStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testConvert() throws Exception
+	{
+		File text = folder.newFolder();
+		File binary = folder.newFolder();
+		File text2 = folder.newFolder();
+
+		try (Store store = new Store(new FlatStorage(text)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 4; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setNameHash(i * 31);
+				FileData[] fileData = new FileData[2];
+				for (int j = 0; j < fileData.length; ++j)
+				{
+					fileData[j] = new FileData();
+					fileData[j].setId(j);
+				}
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), i);
+				container.compress(("test" + i).getBytes(), null);
+				archive.setRevision(i);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+
+		FlatStorageConverter.toBinary(text, binary);
+		FlatStorageConverter.toText(binary, text2);
+
+		try (Store textStore = new Store(new FlatStorage(text2));
+			Store binaryStore = new Store(new BinaryFlatStorage(binary)))
+		{
+			textStore.load();
+			binaryStore.load();
+			assertEquals(textStore, binaryStore);
+
+			Index index = binaryStore.findIndex(0);
+			for (int i = 0; i < 4; ++i)
+			{
+				Archive archive = index.getArchive(i);
+				assertEquals(i * 31, archive.getNameHash());
+				assertEquals(2, archive.getFileData().length);
+				assertArrayEquals(("test" + i).getBytes(), binaryStore.decompressArchive(archive));
+			}
+
+			assertNull(binaryStore.getStorage().load(0, 4));
+		}
+	}
+}
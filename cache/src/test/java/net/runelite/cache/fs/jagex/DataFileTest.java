@@ -26,6 +26,7 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Container;
 import org.junit.Assert;
@@ -167,4 +168,59 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMappedRead() throws IOException
+	{
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		DataFile df = new DataFile(folder.newFile());
+
+		Container container = new Container(CompressionType.NONE, 42);
+		container.compress(b, null);
+		DataFileWriteResult res = df.write(42, 3, container.data);
+		DataFileWriteResult res2 = df.write(42, 0x1FFFF, container.data);
+
+		df.map();
+		Assert.assertTrue(df.isMapped());
+
+		Assert.assertArrayEquals(b, Container.decompress(df.read(42, 3, res.sector, res.compressedLength), null).data);
+		Assert.assertArrayEquals(b, Container.decompress(df.read(42, 0x1FFFF, res2.sector, res2.compressedLength), null).data);
+		Assert.assertNull(df.read(41, 3, res.sector, res.compressedLength));
+
+		// writing drops the mapping
+		DataFileWriteResult res3 = df.write(42, 4, container.data);
+		Assert.assertFalse(df.isMapped());
+		Assert.assertArrayEquals(b, Container.decompress(df.read(42, 4, res3.sector, res3.compressedLength), null).data);
+	}
+
+	@Test
+	public void testReuseSectors() throws IOException
+	{
+		File file = folder.newFile();
+		DataFile df = new DataFile(file);
+
+		byte[] b = new byte[2048];
+		DataFileWriteResult res = df.write(42, 3, b);
+		long length = file.length();
+
+		// a smaller archive fits in the existing chain
+		byte[] b2 = new byte[1024];
+		Arrays.fill(b2, (byte) 1);
+		DataFileWriteResult res2 = df.write(42, 3, b2, res.sector);
+		Assert.assertEquals(res.sector, res2.sector);
+		Assert.assertEquals(length, file.length());
+		Assert.assertArrayEquals(b2, df.read(42, 3, res2.sector, res2.compressedLength));
+
+		// a larger one continues on the end of the file
+		byte[] b3 = new byte[4096];
+		Arrays.fill(b3, (byte) 2);
+		DataFileWriteResult res3 = df.write(42, 3, b3, res.sector);
+		Assert.assertEquals(res.sector, res3.sector);
+		Assert.assertArrayEquals(b3, df.read(42, 3, res3.sector, res3.compressedLength));
+	}
 }
@@ -25,6 +25,11 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -101,4 +106,173 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testMappedLoad() throws Exception
+	{
+		File file = folder.newFolder();
+		DiskStorage storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 16; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				FileData[] fileData = new FileData[1];
+				fileData[0] = new FileData();
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(("test" + i).getBytes(), null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+
+		DiskStorage mappedStorage = new DiskStorage(file, true);
+		try (Store store = new Store(mappedStorage))
+		{
+			store.load();
+			Index index = store.findIndex(0);
+
+			IntStream.range(0, 16).parallel().forEach(i ->
+			{
+				try
+				{
+					Archive archive = index.getArchive(i);
+					byte[] data = archive.decompress(mappedStorage.loadArchive(archive));
+					assertArrayEquals(("test" + i).getBytes(), data);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+	}
+
+	@Test
+	public void testCompact() throws Exception
+	{
+		File file = folder.newFolder();
+		DiskStorage storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			FileData[] fileData = new FileData[1];
+			fileData[0] = new FileData();
+			archive.setFileData(fileData);
+
+			for (int i = 0; i < 8; ++i)
+			{
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(new byte[4096 + i], null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+				store.save();
+			}
+
+			File datFile = new File(file, "main_file_cache.dat2");
+			long length = datFile.length();
+			storage.compact();
+			assertTrue(datFile.length() < length);
+
+			assertArrayEquals(new byte[4096 + 7], archive.decompress(storage.loadArchive(archive)));
+		}
+
+		storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			Archive archive = store.findIndex(0).getArchive(0);
+			assertArrayEquals(new byte[4096 + 7], archive.decompress(storage.loadArchive(archive)));
+		}
+	}
+
+	@Test
+	public void testLoadDuringCompact() throws Exception
+	{
+		File file = folder.newFolder();
+		try (DiskStorage storage = new DiskStorage(file, true))
+		{
+			storage.store(255, 0, new byte[1]);
+			for (int i = 0; i < 64; ++i)
+			{
+				// stored twice so there is something to compact
+				storage.store(0, i, new byte[100 + i]);
+				storage.store(0, i, new byte[100 + i]);
+			}
+			storage.map();
+
+			AtomicBoolean done = new AtomicBoolean();
+			CompletableFuture<Void> reader = CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					for (int i = 0; !done.get(); i = (i + 1) % 64)
+					{
+						assertArrayEquals(new byte[100 + i], storage.load(0, i));
+					}
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			});
+
+			for (int i = 0; i < 8; ++i)
+			{
+				storage.compact();
+				storage.store(0, i, new byte[100 + i]);
+			}
+
+			done.set(true);
+			reader.join();
+		}
+	}
+
+	@Test
+	public void testCompactRecovery() throws Exception
+	{
+		File file = folder.newFolder();
+		DiskStorage storage = new DiskStorage(file);
+		File datFile = new File(file, "main_file_cache.dat2");
+		long length;
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			FileData[] fileData = new FileData[1];
+			fileData[0] = new FileData();
+			archive.setFileData(fileData);
+
+			for (int i = 0; i < 8; ++i)
+			{
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(new byte[4096 + i], null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+				store.save();
+			}
+
+			length = datFile.length();
+
+			// interrupted after the compacted data file and journal are written, but before either is swapped in
+			storage.prepareCompaction();
+		}
+
+		storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			assertTrue(datFile.length() < length);
+			assertFalse(new File(file, "main_file_cache.dat2.tmp").exists());
+			assertFalse(new File(file, "main_file_cache.compact").exists());
+
+			Archive archive = store.findIndex(0).getArchive(0);
+			assertArrayEquals(new byte[4096 + 7], archive.decompress(storage.loadArchive(archive)));
+		}
+	}
 }
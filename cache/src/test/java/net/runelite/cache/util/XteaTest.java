@@ -24,8 +24,14 @@
  */
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class XteaTest
@@ -53,4 +59,112 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testInPlace()
+	{
+		byte[] data = "testtesttest1".getBytes(StandardCharsets.UTF_8);
+
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		byte[] encrypted = new byte[]
+		{
+			121, -18, 48, 64, 120, -42, -113, 77, 116, 101, 115, 116, 49
+		};
+
+		assertEncrypts(key, data, encrypted);
+	}
+
+	@Test
+	public void testReferenceVector()
+	{
+		// test vector from the reference implementation, which uses the same big endian block layout
+		byte[] data = "ABCDEFGH".getBytes(StandardCharsets.US_ASCII);
+
+		int[] key = new int[]
+		{
+			0x00010203, 0x04050607, 0x08090a0b, 0x0c0d0e0f
+		};
+		byte[] encrypted = new byte[]
+		{
+			0x49, 0x7d, (byte) 0xf3, (byte) 0xd0, 0x72, 0x61, 0x2c, (byte) 0xb5
+		};
+
+		assertEncrypts(key, data, encrypted);
+	}
+
+	@Test
+	public void testLarge() throws NoSuchAlgorithmException
+	{
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Xtea xtea = new Xtea(key);
+
+		Random random = new Random(42L);
+		byte[] data = new byte[1024 * 1024 + 5];
+		random.nextBytes(data);
+
+		// sha-256 of the ciphertext, from the original stream based implementation
+		final String expected = "fb227abe71e1465960ebc69002c85c7693d165055c76a1c425e49147f11004fe";
+
+		byte[] encrypted = data.clone();
+		xtea.encrypt(encrypted, 0, encrypted.length);
+		assertEquals(expected, sha256(encrypted));
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(encrypted.length);
+		buffer.put(encrypted);
+		xtea.decrypt(buffer, 0, encrypted.length);
+		byte[] decrypted = new byte[encrypted.length];
+		buffer.flip();
+		buffer.get(decrypted);
+		assertArrayEquals(data, decrypted);
+
+		xtea.decrypt(encrypted, 0, encrypted.length);
+		assertArrayEquals(data, encrypted);
+	}
+
+	private static void assertEncrypts(int[] key, byte[] data, byte[] encrypted)
+	{
+		Xtea xtea = new Xtea(key);
+		final int offset = 3;
+
+		// in place, within a larger array
+		byte[] array = new byte[offset + data.length];
+		System.arraycopy(data, 0, array, offset, data.length);
+		xtea.encrypt(array, offset, data.length);
+		assertArrayEquals(encrypted, Arrays.copyOfRange(array, offset, array.length));
+		xtea.decrypt(array, offset, data.length);
+		assertArrayEquals(data, Arrays.copyOfRange(array, offset, array.length));
+
+		for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(offset + data.length), ByteBuffer.allocateDirect(offset + data.length)})
+		{
+			buffer.position(offset);
+			buffer.put(data);
+
+			byte[] result = new byte[data.length];
+			xtea.encrypt(buffer, offset, data.length);
+			buffer.position(offset);
+			buffer.get(result);
+			assertArrayEquals(encrypted, result);
+
+			xtea.decrypt(buffer, offset, data.length);
+			buffer.position(offset);
+			buffer.get(result);
+			assertArrayEquals(data, result);
+		}
+	}
+
+	private static String sha256(byte[] data) throws NoSuchAlgorithmException
+	{
+		StringBuilder sb = new StringBuilder();
+		for (byte b : MessageDigest.getInstance("SHA-256").digest(data))
+		{
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
 }
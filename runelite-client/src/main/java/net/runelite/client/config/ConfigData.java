@@ -24,6 +24,12 @@
  */
 package net.runelite.client.config;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -36,21 +42,39 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * In-memory config backed by a properties file on disk.
+ * <p>
+ * Saves are appended to a journal next to the properties file as a list of changed keys, rather than
+ * rewriting the whole properties file each time. The journal is replayed on top of the properties
+ * file when loading, and is periodically compacted back into the properties file.
+ */
 @Slf4j
 class ConfigData
 {
+	private static final int JOURNAL_MAGIC = 0x524c4a31; // RLJ1
+	private static final long JOURNAL_COMPACT_SIZE = 1 << 20;
+
 	private final File configPath;
+	// length of the journal as of our last read or write of it, or -1 if it has a torn record
+	private long journalLength;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted index of the keys in properties, for enumerating keys by prefix without a full scan
+	private final ConcurrentSkipListSet<String> sortedKeys = new ConcurrentSkipListSet<>();
 	private Map<String, String> patchChanges = new HashMap<>();
 
 	ConfigData(File configPath)
@@ -58,13 +82,14 @@ class ConfigData
 		this.configPath = configPath;
 
 		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		try
 		{
+			load(configPath, props);
+
+			File journal = journalFile(configPath);
+			long length = journal.length();
+			long end = replayJournal(journal, 0, props);
+			journalLength = end == length ? end : -1;
 		}
 		catch (Exception ex)
 		{
@@ -73,6 +98,7 @@ class ConfigData
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		sortedKeys.addAll(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +109,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			sortedKeys.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +125,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			sortedKeys.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +135,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		sortedKeys.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +143,25 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get the keys starting with the given prefix, in sorted order. This walks the key index from
+	 * the prefix onward, so it is proportional to the number of matching keys rather than the
+	 * total number of keys.
+	 */
+	List<String> keysWithPrefix(String prefix)
+	{
+		List<String> keys = new ArrayList<>();
+		for (String key : sortedKeys.tailSet(prefix))
+		{
+			if (!key.startsWith(prefix))
+			{
+				break;
+			}
+			keys.add(key);
+		}
+		return keys;
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -140,65 +191,280 @@ class ConfigData
 		{
 			lckChannel.lock();
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+			File journal = journalFile(configPath);
+			long length = journal.length();
+			boolean compact = !configPath.exists() || length >= JOURNAL_COMPACT_SIZE;
+			if (!compact && length != journalLength)
+			{
+				// another client has appended to or compacted the journal since we last saw it, so make
+				// sure it doesn't end in a torn record before appending to it
+				long offset = journalLength >= 0 && journalLength <= length ? journalLength : 0;
+				compact = replayJournal(journal, offset, null) != length;
+			}
+
+			if (compact)
 			{
-				tempProps.load(reader);
+				Properties tempProps = new Properties();
+				load(configPath, tempProps);
+				replayJournal(journal, 0, tempProps);
+
+				if (tempProps.isEmpty())
+				{
+					// this probably doesn't happen outside of the very first save (when no file exists)
+					// but to be safe in the event the prop is deleted off disk, flush the entire properties
+					// from memory
+					tempProps.putAll(properties);
+				}
+				else
+				{
+					apply(tempProps, patch);
+				}
+
+				store(configPath, tempProps);
+				journal.delete();
+				journalLength = 0;
 			}
-			catch (FileNotFoundException e)
+			else
 			{
-				log.debug("config file {} does not exist", configPath);
+				journalLength = appendJournal(journal, patch);
 			}
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to save configuration file", ex);
+		}
+		lckFile.delete();
+	}
 
-			if (tempProps.isEmpty())
+	/**
+	 * Merge the journal for the given config file, if any, into the config file, so that the config
+	 * file alone has the full config.
+	 */
+	static void compact(File configPath)
+	{
+		File journal = journalFile(configPath);
+		if (!journal.exists())
+		{
+			return;
+		}
+
+		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+			FileChannel lckChannel = lockOut.getChannel())
+		{
+			lckChannel.lock();
+
+			Properties tempProps = new Properties();
+			load(configPath, tempProps);
+			replayJournal(journal, 0, tempProps);
+
+			store(configPath, tempProps);
+			journal.delete();
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration file", ex);
+		}
+		lckFile.delete();
+	}
+
+	static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".journal");
+	}
+
+	private static void load(File configPath, Properties props) throws IOException
+	{
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+	}
+
+	private static void store(File configPath, Properties props) throws IOException
+	{
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			props.store(writer, "RuneLite configuration");
+			writer.flush();
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void apply(Properties props, Map<String, String> patch)
+	{
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			if (entry.getValue() == null)
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				props.remove(entry.getKey());
 			}
 			else
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				props.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Append a patch to the journal as a single record of: magic, payload length, payload, crc32 of
+	 * the payload. The payload is the number of entries followed by each key and value, with a null
+	 * value for unset keys.
+	 *
+	 * @return the new length of the journal
+	 */
+	private static long appendJournal(File journal, Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream payloadOut = new DataOutputStream(payload);
+		payloadOut.writeInt(patch.size());
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			writeString(payloadOut, entry.getKey());
+			writeString(payloadOut, entry.getValue());
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(payload.toByteArray());
+
+		ByteArrayOutputStream record = new ByteArrayOutputStream(payload.size() + 16);
+		DataOutputStream recordOut = new DataOutputStream(record);
+		recordOut.writeInt(JOURNAL_MAGIC);
+		recordOut.writeInt(payload.size());
+		payload.writeTo(recordOut);
+		recordOut.writeLong(crc.getValue());
+
+		try (FileOutputStream out = new FileOutputStream(journal, true);
+			FileChannel channel = out.getChannel())
+		{
+			// write the record in one go so that a crash most likely leaves either all or none of it
+			record.writeTo(out);
+			channel.force(false);
+			return channel.size();
+		}
+	}
+
+	/**
+	 * Read the journal starting at the given offset, which must be at a record boundary, applying the
+	 * records to props if it is non-null. Reading stops at the end of the journal or at the first
+	 * incomplete or corrupt record, which would be the result of a crash while the record was being
+	 * written.
+	 *
+	 * @return the offset of the end of the last valid record read
+	 */
+	private static long replayJournal(File journal, long offset, Properties props) throws IOException
+	{
+		long end = offset;
+		try (FileInputStream fin = new FileInputStream(journal))
+		{
+			fin.getChannel().position(offset);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(fin));
+			for (;;)
+			{
+				byte[] payload;
+				try
 				{
-					if (entry.getValue() == null)
+					if (in.readInt() != JOURNAL_MAGIC)
 					{
-						tempProps.remove(entry.getKey());
+						break;
 					}
-					else
+
+					int length = in.readInt();
+					if (length < 0 || length > fin.getChannel().size())
 					{
-						tempProps.put(entry.getKey(), entry.getValue());
+						break;
+					}
+
+					payload = new byte[length];
+					in.readFully(payload);
+
+					CRC32 crc = new CRC32();
+					crc.update(payload);
+					if (in.readLong() != crc.getValue())
+					{
+						break;
 					}
 				}
-			}
+				catch (EOFException e)
+				{
+					break;
+				}
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
-			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
-			}
+				if (props != null)
+				{
+					DataInputStream payloadIn = new DataInputStream(new ByteArrayInputStream(payload));
+					for (int count = payloadIn.readInt(); count > 0; --count)
+					{
+						String key = readString(payloadIn);
+						String value = readString(payloadIn);
+						if (value == null)
+						{
+							props.remove(key);
+						}
+						else
+						{
+							props.put(key, value);
+						}
+					}
+				}
 
-			try
-			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-			}
-			catch (AtomicMoveNotSupportedException ex)
-			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				end += payload.length + 16;
 			}
 		}
-		catch (IOException ex)
+		catch (FileNotFoundException e)
 		{
-			log.error("unable to save configuration file", ex);
+			return 0;
 		}
-		lckFile.delete();
+
+		if (end != journal.length())
+		{
+			log.warn("config journal {} has a torn record at {}, ignoring the remainder", journal, end);
+		}
+		return end;
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		if (s == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static String readString(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+		if (length < 0)
+		{
+			return null;
+		}
+
+		byte[] b = new byte[length];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
 	}
 }
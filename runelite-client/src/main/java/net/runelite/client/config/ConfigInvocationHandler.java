@@ -24,45 +24,65 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
 @Slf4j
 class ConfigInvocationHandler implements InvocationHandler
 {
-	// Special object to represent null values in the cache
-	private static final Object NULL = new Object();
+	@RequiredArgsConstructor
+	private static class CachedValue
+	{
+		private final long generation;
+		private final Object value;
+	}
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	private final Class<?> iface;
+	// index of each config item getter into the cache
+	private final Map<Method, Integer> getterIndex = new HashMap<>();
+	// cached getter values, each valid only for the config generation it was read at
+	private final CachedValue[] cache;
 
-	ConfigInvocationHandler(ConfigManager manager)
+	ConfigInvocationHandler(ConfigManager manager, Class<?> iface)
 	{
 		this.manager = manager;
+		this.iface = iface;
+
+		for (Method method : iface.getMethods())
+		{
+			if (method.getParameterCount() == 0 && method.isAnnotationPresent(ConfigItem.class))
+			{
+				getterIndex.put(method, getterIndex.size());
+			}
+		}
+		cache = new CachedValue[getterIndex.size()];
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
-		// Use cached configuration value if available
-		if (args == null)
+		// Use cached configuration value if available. The generation is read before the value so that
+		// a value changed concurrently with being read is cached under the old generation.
+		Integer index = args == null ? getterIndex.get(method) : null;
+		long generation = manager.getConfigGeneration();
+		if (index != null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
-			if (cachedValue != null)
+			CachedValue cachedValue = cache[index];
+			if (cachedValue != null && cachedValue.generation == generation)
 			{
-				return cachedValue == NULL ? null : cachedValue;
+				manager.getConfigCacheHits().increment();
+				return cachedValue.value;
 			}
+			manager.getConfigCacheMisses().increment();
 		}
 
-		Class<?> iface = proxy.getClass().getInterfaces()[0];
-
 		if ("toString".equals(method.getName()) && args == null)
 		{
 			return iface.getSimpleName();
@@ -95,7 +115,7 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			log.trace("cache miss (group: {}, key: {})", group.value(), item.keyName());
 
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
@@ -105,11 +125,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					cache(index, generation, defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				cache(index, generation, null);
 				return null;
 			}
 
@@ -117,7 +137,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				cache(index, generation, objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -184,9 +204,11 @@ class ConfigInvocationHandler implements InvocationHandler
 			.invokeWithArguments(args);
 	}
 
-	void invalidate()
+	private void cache(Integer index, long generation, Object value)
 	{
-		log.trace("cache invalidate");
-		cache.invalidateAll();
+		if (index != null)
+		{
+			cache[index] = new CachedValue(generation, value);
+		}
 	}
 }
@@ -27,6 +27,7 @@ package net.runelite.client.config;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ComparisonChain;
 import com.google.gson.Gson;
 import java.awt.Color;
@@ -57,12 +58,15 @@ import java.util.WeakHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -119,7 +123,12 @@ public class ConfigManager
 	private final ProfileManager profileManager;
 	private final SessionManager sessionManager;
 
-	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
+	// bumped whenever a config value changes, invalidating the values cached by config proxies
+	private final AtomicLong configGeneration = new AtomicLong();
+	@Getter(AccessLevel.PACKAGE)
+	private final LongAdder configCacheHits = new LongAdder();
+	@Getter(AccessLevel.PACKAGE)
+	private final LongAdder configCacheMisses = new LongAdder();
 
 	@Getter
 	private ConfigProfile profile;
@@ -200,10 +209,10 @@ public class ConfigManager
 		ConfigData oldData;
 		synchronized (this)
 		{
-			handler.invalidate();
 			oldData = configProfile;
 			profile = newProfile;
 			configProfile = newData;
+			invalidateConfigCache();
 		}
 
 		allKeys.addAll(oldData.keySet());
@@ -630,6 +639,7 @@ public class ConfigManager
 
 			this.profile = profile;
 			configProfile = new ConfigData(ProfileManager.profileConfigFile(profile));
+			invalidateConfigCache();
 		}
 
 		eventBus.post(new ProfileChanged());
@@ -737,6 +747,7 @@ public class ConfigManager
 				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
 				configFile.delete();
+				ConfigData.journalFile(configFile).delete();
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -763,16 +774,32 @@ public class ConfigManager
 		T t = (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]
 			{
 				clazz
-			}, handler);
+			}, new ConfigInvocationHandler(this, clazz));
 
 		return t;
 	}
 
+	long getConfigGeneration()
+	{
+		return configGeneration.get();
+	}
+
+	private void invalidateConfigCache()
+	{
+		configGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Get the hit and miss counts of the value cache used by config proxies
+	 */
+	public CacheStats getConfigCacheStats()
+	{
+		return new CacheStats(configCacheHits.sum(), configCacheMisses.sum(), 0, 0, 0, 0);
+	}
+
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return configProfile.keysWithPrefix(prefix);
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -785,8 +812,7 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
+		return rsProfileConfigProfile.keysWithPrefix(prefix).stream()
 			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
 			.collect(Collectors.toList());
 	}
@@ -889,7 +915,7 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		invalidateConfigCache();
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -981,7 +1007,7 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		invalidateConfigCache();
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -1348,6 +1374,11 @@ public class ConfigManager
 	private void onClientShutdown(ClientShutdown e)
 	{
 		sendConfig();
+
+		// fold the journals back into the config files, so that the files on disk are complete
+		// on their own if they are copied elsewhere or read by an older client
+		ConfigData.compact(ProfileManager.profileConfigFile(profile));
+		ConfigData.compact(ProfileManager.profileConfigFile(rsProfile));
 	}
 
 	public void sendConfig()
@@ -1462,13 +1493,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keysWithPrefix(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
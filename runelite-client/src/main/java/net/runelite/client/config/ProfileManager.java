@@ -214,6 +214,16 @@ public class ProfileManager
 					StandardCopyOption.REPLACE_EXISTING
 				);
 				log.info("Renamed profile file {} to {}", oldFile.getName(), newFile.getName());
+
+				File oldJournal = ConfigData.journalFile(oldFile);
+				if (oldJournal.exists())
+				{
+					Files.move(
+						oldJournal.toPath(),
+						ConfigData.journalFile(newFile).toPath(),
+						StandardCopyOption.REPLACE_EXISTING
+					);
+				}
 			}
 			catch (IOException e)
 			{
@@ -236,4 +246,13 @@ public class ProfileManager
 	{
 		return new File(PROFILES_DIR, profile.getName() + "-" + profile.getId() + ".properties");
 	}
+
+	/**
+	 * Merge any journaled config changes for the profile into its config file, so that
+	 * the file returned by {@link #profileConfigFile(ConfigProfile)} has the full config.
+	 */
+	public static void compactProfileConfig(ConfigProfile profile)
+	{
+		ConfigData.compact(profileConfigFile(profile));
+	}
 }
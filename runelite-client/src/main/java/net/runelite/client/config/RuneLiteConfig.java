@@ -423,6 +423,19 @@ public interface RuneLiteConfig extends Config
 		return ComponentConstants.STANDARD_BACKGROUND_COLOR;
 	}
 
+	@ConfigItem(
+		keyName = "overlayRenderBudget",
+		name = "Overlay render budget",
+		description = "Temporarily hide overlays which repeatedly take longer than this to render. 0 to disable.",
+		position = 47,
+		section = overlaySettings
+	)
+	@Units(Units.MILLISECONDS)
+	default int overlayRenderBudget()
+	{
+		return 0;
+	}
+
 	@ConfigItem(
 		keyName = "sidebarToggleKey",
 		name = "Sidebar toggle key",
@@ -479,4 +492,45 @@ public interface RuneLiteConfig extends Config
 	{
 		return Keybind.ALT;
 	}
+
+	@Range(
+		min = 1,
+		max = 1024
+	)
+	@ConfigItem(
+		keyName = "imageCacheSize",
+		name = "Image cache size",
+		description = "The amount of memory used to cache item and sprite images.",
+		position = 53
+	)
+	@Units(Units.MEGABYTES)
+	default int imageCacheSize()
+	{
+		return 32;
+	}
+
+	@ConfigItem(
+		keyName = "screenshotFormat",
+		name = "Screenshot format",
+		description = "The image format screenshots are saved in. JPEG screenshots are smaller, but lossy.",
+		position = 54
+	)
+	default ScreenshotFormat screenshotFormat()
+	{
+		return ScreenshotFormat.PNG;
+	}
+
+	@Range(
+		max = 9
+	)
+	@ConfigItem(
+		keyName = "screenshotCompression",
+		name = "Screenshot compression",
+		description = "Higher levels make smaller screenshots.<br>PNG screenshots take longer to save, and JPEG screenshots lose more quality.",
+		position = 55
+	)
+	default int screenshotCompression()
+	{
+		return 4;
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, Tomas Slusny <slusnucky@gmail.com>
+ * Copyright (c) 2026, agent <agent@local>
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -22,24 +22,24 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package net.runelite.client.plugins.grounditems;
+package net.runelite.client.config;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import net.runelite.api.MenuEntry;
 
+@Getter
 @RequiredArgsConstructor
-class MenuEntryWithCount
+public enum ScreenshotFormat
 {
-	@Getter
-	private final MenuEntry entry;
+	PNG("PNG", "png"),
+	JPEG("JPEG", "jpg");
 
-	@Getter
-	private int count = 1;
+	private final String name;
+	private final String extension;
 
-	void increment()
+	@Override
+	public String toString()
 	{
-		count++;
+		return name;
 	}
 }
-
@@ -38,6 +38,7 @@ import java.lang.annotation.Target;
 @Documented
 public @interface Units
 {
+	String MEGABYTES = " MB";
 	String MILLISECONDS = "ms";
 	String MINUTES = " mins";
 	String PERCENT = "%";
@@ -26,6 +26,7 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
@@ -35,12 +36,29 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -53,6 +71,8 @@ import org.slf4j.MarkerFactory;
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final int ASYNC_QUEUE_CAPACITY = 1024;
+	private static final int ASYNC_THREADS = 2;
 
 	@Value
 	public static class Subscriber
@@ -62,6 +82,31 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		@Getter(AccessLevel.NONE)
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final Timings timings = new Timings();
+		@Getter(AccessLevel.NONE)
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final AsyncQueue asyncQueue;
+
+		/**
+		 * @return true if events are delivered to this subscriber off of the posting thread
+		 */
+		public boolean isAsync()
+		{
+			return asyncQueue != null;
+		}
+
+		/**
+		 * @return a readable name of the subscriber, its class and method name
+		 */
+		public String getName()
+		{
+			final String className = object.getClass().getName();
+			return method != null ? className + "." + method.getName() : className;
+		}
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -76,11 +121,85 @@ public class EventBus
 		}
 	}
 
+	private static class Timings
+	{
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+		void record(long nanos)
+		{
+			calls.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		void reset()
+		{
+			calls.reset();
+			totalNanos.reset();
+			maxNanos.reset();
+		}
+	}
+
+	/**
+	 * Events waiting to be delivered to an async subscriber. At most one task drains the queue at a time,
+	 * so the subscriber sees events in the order they were posted.
+	 */
+	static class AsyncQueue
+	{
+		private final BlockingQueue<Object> events = new ArrayBlockingQueue<>(ASYNC_QUEUE_CAPACITY);
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private final LongAdder dropped = new LongAdder();
+		private volatile boolean closed;
+	}
+
+	/**
+	 * A snapshot of the time spent in a subscriber while the event bus was instrumented
+	 */
+	@Value
+	public static class SubscriberTiming
+	{
+		private final Class<?> eventType;
+		private final Subscriber subscriber;
+		private final long calls;
+		private final long totalNanos;
+		private final long maxNanos;
+		/**
+		 * Number of events queued for an async subscriber which have not yet been delivered
+		 */
+		private final int queued;
+		/**
+		 * Number of events an async subscriber missed because its queue was full
+		 */
+		private final long dropped;
+	}
+
 	private final Consumer<Throwable> exceptionHandler;
 
+	/**
+	 * Executor delivering events to {@link Subscribe#async()} subscribers, created on first use
+	 */
+	private volatile Executor asyncExecutor;
+
+	/**
+	 * Whether to record the number of calls and time spent in each subscriber.
+	 * This adds two {@link System#nanoTime()} calls per subscriber call to {@link #post(Object)}.
+	 */
+	@Getter
+	@Setter
+	private volatile boolean instrumented;
+
 	@Nonnull
 	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
 
+	/**
+	 * Subscribers of each event class in invocation order, rebuilt from {@link #subscribers}
+	 * whenever it changes so that posting does not need to allocate.
+	 */
+	@Nonnull
+	private volatile ImmutableMap<Class<?>, Subscriber[]> dispatch = ImmutableMap.of();
+
 	/**
 	 * Instantiates EventBus with default exception handler
 	 */
@@ -89,6 +208,18 @@ public class EventBus
 		this((e) -> log.warn(DEDUPLICATE, "Uncaught exception in event subscriber", e));
 	}
 
+	/**
+	 * Instantiates EventBus delivering async events on the given executor
+	 *
+	 * @param exceptionHandler handler for exceptions thrown by subscribers
+	 * @param asyncExecutor executor to run {@link Subscribe#async()} subscribers on
+	 */
+	public EventBus(Consumer<Throwable> exceptionHandler, Executor asyncExecutor)
+	{
+		this.exceptionHandler = exceptionHandler;
+		this.asyncExecutor = asyncExecutor;
+	}
+
 	/**
 	 * Registers subscriber to EventBus. All methods in subscriber and it's parent classes are checked for
 	 * {@link Subscribe} annotation and then added to map of subscriptions.
@@ -158,13 +289,14 @@ public class EventBus
 					log.warn("Unable to create lambda for method {}", method, e);
 				}
 
-				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
+				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda,
+					sub.async() ? new AsyncQueue() : null);
 				builder.put(parameterClazz, subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		setSubscribers(builder.build());
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
@@ -174,10 +306,10 @@ public class EventBus
 		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
 			.thenComparing(s -> s.object.getClass().getName()));
 
-		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
+		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn, null);
 		builder.put(clazz, sub);
 
-		subscribers = builder.build();
+		setSubscribers(builder.build());
 
 		return sub;
 	}
@@ -189,10 +321,18 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
+		for (Subscriber subscriber : subscribers.values())
+		{
+			if (subscriber.getObject() == object)
+			{
+				close(subscriber);
+			}
+		}
+
+		setSubscribers(ImmutableMultimap.copyOf(Iterables.filter(
 			subscribers.entries(),
 			e -> e.getValue().getObject() != object
-		));
+		)));
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,22 +342,128 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
+		close(sub);
+		setSubscribers(ImmutableMultimap.copyOf(Iterables.filter(
 			subscribers.entries(),
 			e -> sub != e.getValue()
-		));
+		)));
+	}
+
+	private static void close(Subscriber subscriber)
+	{
+		final AsyncQueue queue = subscriber.asyncQueue;
+		if (queue != null)
+		{
+			queue.closed = true;
+			queue.events.clear();
+		}
+	}
+
+	private void setSubscribers(ImmutableMultimap<Class<?>, Subscriber> subscribers)
+	{
+		final ImmutableMap.Builder<Class<?>, Subscriber[]> builder = ImmutableMap.builder();
+		for (Map.Entry<Class<?>, Collection<Subscriber>> entry : subscribers.asMap().entrySet())
+		{
+			builder.put(entry.getKey(), entry.getValue().toArray(new Subscriber[0]));
+		}
+
+		this.subscribers = subscribers;
+		this.dispatch = builder.build();
 	}
 
 	/**
 	 * Posts provided event to all registered subscribers. Subscriber calls are invoked immediately,
-	 * ordered by priority then their declaring class' name.
+	 * ordered by priority then their declaring class' name. {@link Subscribe#async()} subscribers
+	 * instead have the event queued and return immediately.
 	 *
 	 * @param event event to post
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] eventSubscribers = dispatch.get(event.getClass());
+		if (eventSubscribers == null)
+		{
+			return;
+		}
+
+		final boolean instrumented = this.instrumented;
+		for (final Subscriber subscriber : eventSubscribers)
+		{
+			if (subscriber.asyncQueue != null)
+			{
+				enqueue(subscriber, event);
+				continue;
+			}
+
+			final long start = instrumented ? System.nanoTime() : 0L;
+
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+
+			if (instrumented)
+			{
+				subscriber.timings.record(System.nanoTime() - start);
+			}
+		}
+	}
+
+	private void enqueue(final Subscriber subscriber, final Object event)
+	{
+		final AsyncQueue queue = subscriber.asyncQueue;
+		if (queue.closed)
+		{
+			return;
+		}
+
+		if (!queue.events.offer(event))
+		{
+			// the subscriber is not keeping up; drop the event rather than stall the posting thread
+			if (queue.dropped.sum() == 0)
+			{
+				log.warn("Async subscriber {} is falling behind, dropping events", subscriber.getName());
+			}
+			queue.dropped.increment();
+			return;
+		}
+
+		schedule(subscriber);
+	}
+
+	private void schedule(final Subscriber subscriber)
+	{
+		final AsyncQueue queue = subscriber.asyncQueue;
+		if (!queue.scheduled.compareAndSet(false, true))
+		{
+			// the running drain will pick the event up
+			return;
+		}
+
+		try
+		{
+			getAsyncExecutor().execute(() -> drain(subscriber));
+		}
+		catch (RejectedExecutionException e)
 		{
+			queue.scheduled.set(false);
+			exceptionHandler.accept(e);
+		}
+	}
+
+	private void drain(final Subscriber subscriber)
+	{
+		final AsyncQueue queue = subscriber.asyncQueue;
+		Object event;
+		while (!queue.closed && (event = queue.events.poll()) != null)
+		{
+			final boolean instrumented = this.instrumented;
+			final long start = instrumented ? System.nanoTime() : 0L;
+
 			try
 			{
 				subscriber.invoke(event);
@@ -226,6 +472,83 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+
+			if (instrumented)
+			{
+				subscriber.timings.record(System.nanoTime() - start);
+			}
+		}
+
+		queue.scheduled.set(false);
+
+		// an event may have been queued after the last poll but before scheduled was cleared
+		if (!queue.closed && !queue.events.isEmpty())
+		{
+			schedule(subscriber);
+		}
+	}
+
+	private Executor getAsyncExecutor()
+	{
+		Executor executor = asyncExecutor;
+		if (executor == null)
+		{
+			synchronized (this)
+			{
+				executor = asyncExecutor;
+				if (executor == null)
+				{
+					final AtomicInteger threadNumber = new AtomicInteger();
+					asyncExecutor = executor = Executors.newFixedThreadPool(ASYNC_THREADS, r ->
+					{
+						final Thread thread = new Thread(r, "EventBus-async-" + threadNumber.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Snapshot the timings of every registered subscriber which has been called while instrumented,
+	 * ordered by total time spent, highest first.
+	 *
+	 * @return subscriber timings
+	 */
+	public List<SubscriberTiming> getTimings()
+	{
+		return subscribers.entries().stream()
+			.filter(e -> e.getValue().timings.calls.sum() > 0
+				|| (e.getValue().asyncQueue != null
+					&& (e.getValue().asyncQueue.dropped.sum() > 0 || !e.getValue().asyncQueue.events.isEmpty())))
+			.map(e ->
+			{
+				final Subscriber subscriber = e.getValue();
+				final Timings timings = subscriber.timings;
+				final AsyncQueue queue = subscriber.asyncQueue;
+				return new SubscriberTiming(e.getKey(), subscriber,
+					timings.calls.sum(), timings.totalNanos.sum(), timings.maxNanos.get(),
+					queue != null ? queue.events.size() : 0,
+					queue != null ? queue.dropped.sum() : 0L);
+			})
+			.sorted(Comparator.comparingLong(SubscriberTiming::getTotalNanos).reversed())
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Reset the recorded timings of every registered subscriber
+	 */
+	public void resetTimings()
+	{
+		for (Subscriber subscriber : subscribers.values())
+		{
+			subscriber.timings.reset();
+			if (subscriber.asyncQueue != null)
+			{
+				subscriber.asyncQueue.dropped.reset();
+			}
 		}
 	}
 }
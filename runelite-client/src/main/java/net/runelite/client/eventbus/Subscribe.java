@@ -43,4 +43,13 @@ public @interface Subscribe
 	 * @return
 	 */
 	float priority() default 0;
+
+	/**
+	 * Deliver events to this subscriber on a background thread instead of the thread posting them.
+	 * Events are delivered in the order they were posted, but if the subscriber falls too far behind
+	 * further events are dropped. Async subscribers must not touch client state which requires the
+	 * client thread.
+	 * @return
+	 */
+	boolean async() default false;
 }
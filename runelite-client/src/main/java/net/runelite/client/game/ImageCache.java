@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+
+/**
+ * A cache of images shared by {@link ItemManager} and {@link SpriteManager}, bounded by the
+ * memory used by the image data rather than by the number of images.
+ */
+@Singleton
+@Slf4j
+public class ImageCache
+{
+	private final RuneLiteConfig runeLiteConfig;
+
+	private volatile Cache<Object, BufferedImage> cache;
+	// stats of the caches replaced due to the size changing
+	private CacheStats previousStats = new CacheStats(0, 0, 0, 0, 0, 0);
+
+	@Inject
+	ImageCache(RuneLiteConfig runeLiteConfig, EventBus eventBus)
+	{
+		this.runeLiteConfig = runeLiteConfig;
+		this.cache = build();
+		eventBus.register(this);
+	}
+
+	private Cache<Object, BufferedImage> build()
+	{
+		return CacheBuilder.newBuilder()
+			.maximumWeight(runeLiteConfig.imageCacheSize() * 1024L * 1024L)
+			.weigher((Object key, BufferedImage image) -> weigh(image))
+			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
+			.build();
+	}
+
+	@Subscribe
+	void onConfigChanged(ConfigChanged event)
+	{
+		if (RuneLiteConfig.GROUP_NAME.equals(event.getGroup()) && "imageCacheSize".equals(event.getKey()))
+		{
+			log.debug("Resizing image cache to {}MB", runeLiteConfig.imageCacheSize());
+			synchronized (this)
+			{
+				previousStats = previousStats.plus(cache.stats());
+				cache = build();
+			}
+		}
+	}
+
+	@Nullable
+	BufferedImage getIfPresent(Object key)
+	{
+		return cache.getIfPresent(key);
+	}
+
+	BufferedImage get(Object key, Callable<? extends BufferedImage> loader) throws ExecutionException
+	{
+		return cache.get(key, loader);
+	}
+
+	void put(Object key, BufferedImage image)
+	{
+		cache.put(key, image);
+	}
+
+	/**
+	 * Get the hit, miss and eviction counts of the cache
+	 */
+	public synchronized CacheStats getStats()
+	{
+		return previousStats.plus(cache.stats());
+	}
+
+	/**
+	 * Get the approximate memory used by the cached images, in bytes
+	 */
+	public long getWeight()
+	{
+		long weight = 0;
+		for (BufferedImage image : cache.asMap().values())
+		{
+			weight += weigh(image);
+		}
+		return weight;
+	}
+
+	private static int weigh(BufferedImage image)
+	{
+		final DataBuffer buffer = image.getRaster().getDataBuffer();
+		return buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / Byte.SIZE;
+	}
+}
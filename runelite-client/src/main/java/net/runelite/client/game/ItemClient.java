@@ -33,6 +33,7 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.extern.slf4j.Slf4j;
@@ -50,7 +51,7 @@ public class ItemClient
 	private final Gson gson;
 
 	@Inject
-	private ItemClient(OkHttpClient client,
+	ItemClient(OkHttpClient client,
 		@Named("runelite.api.base") HttpUrl apiBase,
 		@Named("runelite.static.base") HttpUrl staticBase,
 		Gson gson
@@ -63,63 +64,89 @@ public class ItemClient
 	}
 
 	public ItemPrice[] getPrices() throws IOException
+	{
+		ItemData<ItemPrice[]> prices = getPrices(null);
+		return prices != null ? prices.getData() : null;
+	}
+
+	/**
+	 * Fetch the item prices, conditionally on them having changed since the given previous fetch.
+	 *
+	 * @param previous a previous fetch of the prices, or null
+	 * @return the prices, with null data if unchanged, or null on error
+	 */
+	@Nullable
+	ItemData<ItemPrice[]> getPrices(@Nullable ItemData<?> previous) throws IOException
 	{
 		HttpUrl.Builder urlBuilder = apiBase.newBuilder()
 			.addPathSegment("item")
 			.addPathSegment("prices.js");
 
-		HttpUrl url = urlBuilder.build();
-
-		log.debug("Built URI: {}", url);
-
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			if (!response.isSuccessful())
-			{
-				log.warn("Error looking up prices: {}", response);
-				return null;
-			}
-
-			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
-		}
-		catch (JsonParseException ex)
-		{
-			throw new IOException(ex);
-		}
+		return fetch(urlBuilder.build(), previous, ItemPrice[].class, "prices");
 	}
 
 	public Map<Integer, ItemStats> getStats() throws IOException
+	{
+		ItemData<Map<Integer, ItemStats>> stats = getStats(null);
+		return stats != null ? stats.getData() : null;
+	}
+
+	/**
+	 * Fetch the item stats, conditionally on them having changed since the given previous fetch.
+	 *
+	 * @param previous a previous fetch of the stats, or null
+	 * @return the stats, with null data if unchanged, or null on error
+	 */
+	@Nullable
+	ItemData<Map<Integer, ItemStats>> getStats(@Nullable ItemData<?> previous) throws IOException
 	{
 		HttpUrl.Builder urlBuilder = staticBase.newBuilder()
 			.addPathSegment("item")
 			.addPathSegment("stats.ids.min.json");
 
-		HttpUrl url = urlBuilder.build();
+		final Type typeToken = new TypeToken<Map<Integer, ItemStats>>()
+		{
+		}.getType();
+		return fetch(urlBuilder.build(), previous, typeToken, "item stats");
+	}
 
+	@Nullable
+	private <T> ItemData<T> fetch(HttpUrl url, @Nullable ItemData<?> previous, Type type, String name) throws IOException
+	{
 		log.debug("Built URI: {}", url);
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
+		Request.Builder requestBuilder = new Request.Builder()
+			.url(url);
+
+		if (previous != null)
+		{
+			if (previous.getEtag() != null)
+			{
+				requestBuilder.header("If-None-Match", previous.getEtag());
+			}
+			if (previous.getLastModified() != null)
+			{
+				requestBuilder.header("If-Modified-Since", previous.getLastModified());
+			}
+		}
 
-		try (Response response = client.newCall(request).execute())
+		try (Response response = client.newCall(requestBuilder.build()).execute())
 		{
+			if (response.code() == 304 && previous != null)
+			{
+				log.debug("{} not modified", name);
+				return new ItemData<>(null, previous.getEtag(), previous.getLastModified());
+			}
+
 			if (!response.isSuccessful())
 			{
-				log.warn("Error looking up item stats: {}", response);
+				log.warn("Error looking up {}: {}", name, response);
 				return null;
 			}
 
 			InputStream in = response.body().byteStream();
-			final Type typeToken = new TypeToken<Map<Integer, ItemStats>>()
-			{
-			}.getType();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), typeToken);
+			T data = gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), type);
+			return new ItemData<>(data, response.header("ETag"), response.header("Last-Modified"));
 		}
 		catch (JsonParseException ex)
 		{
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * Persists item prices and stats to disk in a compact binary format, so that they are available
+ * immediately on startup rather than after they have been downloaded and parsed.
+ * <p>
+ * Each file is a header of magic, version, etag and last modified, followed by the entry count
+ * and the entries sorted by item id. All values are big endian.
+ */
+@Singleton
+@Slf4j
+class ItemDataCache
+{
+	private static final int PRICES_MAGIC = 0x524c4950; // RLIP
+	private static final int STATS_MAGIC = 0x524c4953; // RLIS
+	private static final int VERSION = 1;
+
+	// smallest encoded entry, used to reject entry counts the file is too short to hold
+	private static final int MIN_PRICE_SIZE = 4 + 4 + 4 + 4; // id, price, wiki price, name length
+	private static final int MIN_STATS_SIZE = 4 + 1 + 8 + 4 + 1; // id, equipable, weight, ge limit, has equipment
+
+	private final File pricesFile;
+	private final File statsFile;
+
+	@Inject
+	ItemDataCache(@Named("cacheDir") File cacheDir)
+	{
+		final File directory = new File(cacheDir, "items");
+		this.pricesFile = new File(directory, "prices.bin");
+		this.statsFile = new File(directory, "stats.bin");
+	}
+
+	@Nullable
+	ItemData<ItemIdTable<ItemPrice>> readPrices()
+	{
+		return read(pricesFile, PRICES_MAGIC, MIN_PRICE_SIZE, (buf, count) ->
+		{
+			int[] ids = new int[count];
+			ItemPrice[] prices = new ItemPrice[count];
+			for (int i = 0; i < count; ++i)
+			{
+				ItemPrice price = new ItemPrice();
+				price.setId(buf.getInt());
+				price.setPrice(buf.getInt());
+				price.setWikiPrice(buf.getInt());
+				price.setName(readString(buf));
+				ids[i] = price.getId();
+				prices[i] = price;
+			}
+			return ItemIdTable.ofSorted(ids, prices);
+		});
+	}
+
+	void writePrices(ItemData<ItemIdTable<ItemPrice>> prices)
+	{
+		write(pricesFile, PRICES_MAGIC, prices, (out, id, price) ->
+		{
+			out.writeInt(id);
+			out.writeInt(price.getPrice());
+			out.writeInt(price.getWikiPrice());
+			writeString(out, price.getName());
+		});
+	}
+
+	@Nullable
+	ItemData<ItemIdTable<ItemStats>> readStats()
+	{
+		return read(statsFile, STATS_MAGIC, MIN_STATS_SIZE, (buf, count) ->
+		{
+			int[] ids = new int[count];
+			ItemStats[] stats = new ItemStats[count];
+			for (int i = 0; i < count; ++i)
+			{
+				ids[i] = buf.getInt();
+				boolean equipable = buf.get() != 0;
+				double weight = buf.getDouble();
+				int geLimit = buf.getInt();
+				ItemEquipmentStats equipment = null;
+				if (buf.get() != 0)
+				{
+					equipment = ItemEquipmentStats.builder()
+						.slot(buf.getInt())
+						.isTwoHanded(buf.get() != 0)
+						.astab(buf.getInt())
+						.aslash(buf.getInt())
+						.acrush(buf.getInt())
+						.amagic(buf.getInt())
+						.arange(buf.getInt())
+						.dstab(buf.getInt())
+						.dslash(buf.getInt())
+						.dcrush(buf.getInt())
+						.dmagic(buf.getInt())
+						.drange(buf.getInt())
+						.str(buf.getInt())
+						.rstr(buf.getInt())
+						.mdmg(buf.getFloat())
+						.prayer(buf.getInt())
+						.aspeed(buf.getInt())
+						.build();
+				}
+				stats[i] = new ItemStats(equipable, weight, geLimit, equipment);
+			}
+			return ItemIdTable.ofSorted(ids, stats);
+		});
+	}
+
+	void writeStats(ItemData<ItemIdTable<ItemStats>> stats)
+	{
+		write(statsFile, STATS_MAGIC, stats, (out, id, stat) ->
+		{
+			out.writeInt(id);
+			out.writeBoolean(stat.isEquipable());
+			out.writeDouble(stat.getWeight());
+			out.writeInt(stat.getGeLimit());
+
+			ItemEquipmentStats equipment = stat.getEquipment();
+			out.writeBoolean(equipment != null);
+			if (equipment != null)
+			{
+				out.writeInt(equipment.getSlot());
+				out.writeBoolean(equipment.isTwoHanded());
+				out.writeInt(equipment.getAstab());
+				out.writeInt(equipment.getAslash());
+				out.writeInt(equipment.getAcrush());
+				out.writeInt(equipment.getAmagic());
+				out.writeInt(equipment.getArange());
+				out.writeInt(equipment.getDstab());
+				out.writeInt(equipment.getDslash());
+				out.writeInt(equipment.getDcrush());
+				out.writeInt(equipment.getDmagic());
+				out.writeInt(equipment.getDrange());
+				out.writeInt(equipment.getStr());
+				out.writeInt(equipment.getRstr());
+				out.writeFloat(equipment.getMdmg());
+				out.writeInt(equipment.getPrayer());
+				out.writeInt(equipment.getAspeed());
+			}
+		});
+	}
+
+	private interface EntryReader<T>
+	{
+		ItemIdTable<T> read(ByteBuffer buf, int count);
+	}
+
+	private interface EntryWriter<T>
+	{
+		void write(DataOutputStream out, int id, T value) throws IOException;
+	}
+
+	@Nullable
+	private static <T> ItemData<ItemIdTable<T>> read(File file, int magic, int minEntrySize, EntryReader<T> reader)
+	{
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try
+		{
+			// The file is read into the heap rather than mapped, since on Windows a mapped file can't be
+			// replaced until the mapping is garbage collected, and the file is rewritten after each refresh.
+			ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+			if (buf.getInt() != magic || buf.getInt() != VERSION)
+			{
+				log.debug("ignoring item data cache {} with unknown format", file);
+				return null;
+			}
+
+			String etag = readString(buf);
+			String lastModified = readString(buf);
+			int count = buf.getInt();
+			if (count < 0 || count > buf.remaining() / minEntrySize)
+			{
+				log.warn("ignoring item data cache {} with bad entry count {}", file, count);
+				return null;
+			}
+
+			return new ItemData<>(reader.read(buf, count), etag, lastModified);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			// a corrupt file can fail in many ways, none of which should stop the data being downloaded
+			log.warn("unable to read item data cache {}", file, ex);
+			return null;
+		}
+	}
+
+	private static <T> void write(File file, int magic, ItemData<ItemIdTable<T>> data, EntryWriter<T> writer)
+	{
+		try
+		{
+			file.getParentFile().mkdirs();
+			File tempFile = File.createTempFile(file.getName(), null, file.getParentFile());
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))))
+			{
+				out.writeInt(magic);
+				out.writeInt(VERSION);
+				writeString(out, data.getEtag());
+				writeString(out, data.getLastModified());
+
+				ItemIdTable<T> table = data.getData();
+				List<T> values = table.values();
+				out.writeInt(table.size());
+				for (int i = 0; i < table.size(); ++i)
+				{
+					writer.write(out, table.getId(i), values.get(i));
+				}
+			}
+
+			try
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				log.debug("atomic move not supported", ex);
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write item data cache {}", file, ex);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, @Nullable String s) throws IOException
+	{
+		if (s == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	@Nullable
+	private static String readString(ByteBuffer buf)
+	{
+		int length = buf.getInt();
+		if (length < 0)
+		{
+			return null;
+		}
+
+		if (length > buf.remaining())
+		{
+			throw new BufferUnderflowException();
+		}
+
+		byte[] b = new byte[length];
+		buf.get(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+}
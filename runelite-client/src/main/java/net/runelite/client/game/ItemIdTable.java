@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * An immutable table of values keyed by item id, stored as a sorted int array
+ * to avoid the per-entry overhead of a map with boxed keys.
+ */
+class ItemIdTable<T>
+{
+	private static final ItemIdTable<?> EMPTY = new ItemIdTable<>(new int[0], new Object[0]);
+
+	private final int[] ids;
+	private final Object[] values;
+
+	private ItemIdTable(int[] ids, Object[] values)
+	{
+		this.ids = ids;
+		this.values = values;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> ItemIdTable<T> empty()
+	{
+		return (ItemIdTable<T>) EMPTY;
+	}
+
+	static <T> ItemIdTable<T> of(T[] values, ToIntFunction<T> idFunction)
+	{
+		T[] sorted = values.clone();
+		Arrays.sort(sorted, (a, b) -> Integer.compare(idFunction.applyAsInt(a), idFunction.applyAsInt(b)));
+
+		int[] ids = new int[sorted.length];
+		for (int i = 0; i < sorted.length; ++i)
+		{
+			ids[i] = idFunction.applyAsInt(sorted[i]);
+		}
+		return new ItemIdTable<>(ids, sorted);
+	}
+
+	static <T> ItemIdTable<T> of(Map<Integer, T> map)
+	{
+		int[] ids = new int[map.size()];
+		int i = 0;
+		for (int id : map.keySet())
+		{
+			ids[i++] = id;
+		}
+		Arrays.sort(ids);
+
+		Object[] values = new Object[ids.length];
+		for (i = 0; i < ids.length; ++i)
+		{
+			values[i] = map.get(ids[i]);
+		}
+		return new ItemIdTable<>(ids, values);
+	}
+
+	/**
+	 * Create a table from ids and values already sorted by id
+	 */
+	static <T> ItemIdTable<T> ofSorted(int[] ids, Object[] values)
+	{
+		for (int i = 1; i < ids.length; ++i)
+		{
+			if (ids[i - 1] > ids[i])
+			{
+				throw new IllegalArgumentException("ids are not sorted");
+			}
+		}
+		return new ItemIdTable<>(ids, values);
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(int id)
+	{
+		int idx = Arrays.binarySearch(ids, id);
+		return idx >= 0 ? (T) values[idx] : null;
+	}
+
+	int size()
+	{
+		return ids.length;
+	}
+
+	int getId(int index)
+	{
+		return ids[index];
+	}
+
+	/**
+	 * The values of the table, ordered by id
+	 */
+	List<T> values()
+	{
+		return new AbstractList<T>()
+		{
+			@Override
+			@SuppressWarnings("unchecked")
+			public T get(int index)
+			{
+				return (T) values[index];
+			}
+
+			@Override
+			public int size()
+			{
+				return values.length;
+			}
+		};
+	}
+}
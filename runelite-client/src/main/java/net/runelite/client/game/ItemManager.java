@@ -24,9 +24,6 @@
  */
 package net.runelite.client.game;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import java.awt.Color;
@@ -34,9 +31,7 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
@@ -61,6 +56,7 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ItemPricesChanged;
 import net.runelite.client.util.AsyncBufferedImage;
 import net.runelite.http.api.item.ItemPrice;
 
@@ -89,6 +85,7 @@ public class ItemManager
 	private final ItemClient itemClient;
 	private final RuneLiteConfig runeLiteConfig;
 	private final ScheduledExecutorService executor;
+	private final EventBus eventBus;
 
 	@Inject(optional = true)
 	@Named("activePriceThreshold")
@@ -100,12 +97,15 @@ public class ItemManager
 	@SuppressWarnings("PMD.ImmutableField")
 	private int lowPriceThreshold = 1000;
 
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private final ItemDataCache itemDataCache;
+
+	private volatile ItemIdTable<ItemPrice> itemPrices = ItemIdTable.empty();
+	private volatile ItemSearchIndex itemSearchIndex = ItemSearchIndex.EMPTY;
 	private Instant itemPricesTime; // last attempted fetch time
+	private ItemData<ItemIdTable<ItemPrice>> itemPricesData; // last loaded prices, for conditional refresh
 
-	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
-	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
-	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
+	private volatile ItemIdTable<ItemStats> itemStats = ItemIdTable.empty();
+	private final ImageCache imageCache;
 
 	// Worn items with weight reducing property have a different worn and inventory ItemID
 	private static final ImmutableMap<Integer, Integer> WORN_ITEMS = ImmutableMap.<Integer, Integer>builder().
@@ -205,42 +205,22 @@ public class ItemManager
 
 	@Inject
 	private ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		EventBus eventBus, ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+		EventBus eventBus, ItemClient itemClient, RuneLiteConfig runeLiteConfig, ImageCache imageCache,
+		ItemDataCache itemDataCache)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
 		this.executor = scheduledExecutorService;
+		this.eventBus = eventBus;
+		this.imageCache = imageCache;
+		this.itemDataCache = itemDataCache;
 
 		eventBus.register(this);
 
 		scheduledExecutorService.scheduleWithFixedDelay(this::refreshPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
-
-		itemImages = CacheBuilder.newBuilder()
-			.maximumSize(128L)
-			.expireAfterAccess(1, TimeUnit.HOURS)
-			.build(new CacheLoader<>()
-			{
-				@Override
-				public AsyncBufferedImage load(ImageKey key) throws Exception
-				{
-					return loadImage(key.itemId, key.itemQuantity, key.stackable);
-				}
-			});
-
-		itemOutlines = CacheBuilder.newBuilder()
-			.maximumSize(128L)
-			.expireAfterAccess(1, TimeUnit.HOURS)
-			.build(new CacheLoader<>()
-			{
-				@Override
-				public BufferedImage load(OutlineKey key) throws Exception
-				{
-					return loadItemOutline(key.itemId, key.itemQuantity, key.outlineColor);
-				}
-			});
 	}
 
 	@Subscribe
@@ -268,17 +248,27 @@ public class ItemManager
 
 	private void loadPrices()
 	{
+		if (itemPricesData == null)
+		{
+			// use the prices cached on disk until they have been refreshed
+			itemPricesData = itemDataCache.readPrices();
+			if (itemPricesData != null)
+			{
+				setPrices(itemPricesData.getData());
+				log.debug("Loaded {} cached prices", itemPrices.size());
+			}
+		}
+
 		try
 		{
-			ItemPrice[] prices = itemClient.getPrices();
-			if (prices != null)
+			ItemData<ItemPrice[]> prices = itemClient.getPrices(itemPricesData);
+			if (prices != null && prices.getData() != null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getId(), price);
-				}
-				itemPrices = map.build();
+				ItemIdTable<ItemPrice> table = ItemIdTable.of(prices.getData(), ItemPrice::getId);
+				setPrices(table);
+
+				itemPricesData = new ItemData<>(table, prices.getEtag(), prices.getLastModified());
+				itemDataCache.writePrices(itemPricesData);
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -289,14 +279,30 @@ public class ItemManager
 		}
 	}
 
+	private void setPrices(ItemIdTable<ItemPrice> prices)
+	{
+		itemPrices = prices;
+		itemSearchIndex = new ItemSearchIndex(prices.values());
+		eventBus.post(new ItemPricesChanged());
+	}
+
 	private void loadStats()
 	{
+		ItemData<ItemIdTable<ItemStats>> cached = itemDataCache.readStats();
+		if (cached != null)
+		{
+			itemStats = cached.getData();
+			log.debug("Loaded {} cached stats", itemStats.size());
+		}
+
 		try
 		{
-			final Map<Integer, ItemStats> stats = itemClient.getStats();
-			if (stats != null)
+			final ItemData<Map<Integer, ItemStats>> stats = itemClient.getStats(cached);
+			if (stats != null && stats.getData() != null)
 			{
-				itemStats = ImmutableMap.copyOf(stats);
+				ItemIdTable<ItemStats> table = ItemIdTable.of(stats.getData());
+				itemStats = table;
+				itemDataCache.writeStats(new ItemData<>(table, stats.getEtag(), stats.getLastModified()));
 			}
 
 			log.debug("Loaded {} stats", itemStats.size());
@@ -428,25 +434,16 @@ public class ItemManager
 	}
 
 	/**
-	 * Search for tradeable items based on item name
+	 * Search for tradeable items based on item name. Exact name matches are returned first,
+	 * followed by names starting with the search, then names with a word starting with the search,
+	 * then any other names containing the search.
 	 *
 	 * @param itemName item name
 	 * @return
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
-
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+		return itemSearchIndex.search(itemName);
 	}
 
 	/**
@@ -539,7 +536,8 @@ public class ItemManager
 	{
 		try
 		{
-			return itemImages.get(new ImageKey(itemId, quantity, stackable));
+			return (AsyncBufferedImage) imageCache.get(new ImageKey(itemId, quantity, stackable),
+				() -> loadImage(itemId, quantity, stackable));
 		}
 		catch (ExecutionException ex)
 		{
@@ -573,7 +571,8 @@ public class ItemManager
 	{
 		try
 		{
-			return itemOutlines.get(new OutlineKey(itemId, itemQuantity, outlineColor));
+			return imageCache.get(new OutlineKey(itemId, itemQuantity, outlineColor),
+				() -> loadItemOutline(itemId, itemQuantity, outlineColor));
 		}
 		catch (ExecutionException e)
 		{
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * An immutable trigram index over item names for substring search. A query is looked up by
+ * intersecting against the shortest posting list of its trigrams, so only the items sharing
+ * all of its trigrams have their names compared.
+ */
+class ItemSearchIndex
+{
+	static final ItemSearchIndex EMPTY = new ItemSearchIndex(Collections.emptyList());
+
+	private static final int[] NO_POSTINGS = new int[0];
+
+	private static final int RANK_EXACT = 0;
+	private static final int RANK_PREFIX = 1;
+	private static final int RANK_WORD_PREFIX = 2;
+	private static final int RANK_SUBSTRING = 3;
+
+	private final ItemPrice[] items;
+	private final String[] names;
+	private final Map<Long, int[]> trigrams;
+
+	ItemSearchIndex(Collection<ItemPrice> prices)
+	{
+		items = prices.toArray(new ItemPrice[0]);
+		names = new String[items.length];
+
+		Map<Long, int[]> postings = new HashMap<>();
+		Map<Long, Integer> sizes = new HashMap<>();
+		for (int i = 0; i < items.length; ++i)
+		{
+			final String name = items[i].getName().toLowerCase();
+			names[i] = name;
+
+			for (int j = 0; j + 3 <= name.length(); ++j)
+			{
+				final long trigram = trigram(name, j);
+				int[] list = postings.getOrDefault(trigram, NO_POSTINGS);
+				int size = sizes.getOrDefault(trigram, 0);
+				if (size > 0 && list[size - 1] == i)
+				{
+					// trigram repeated within this name
+					continue;
+				}
+				if (size == list.length)
+				{
+					list = Arrays.copyOf(list, Math.max(4, size * 2));
+					postings.put(trigram, list);
+				}
+				list[size] = i;
+				sizes.put(trigram, size + 1);
+			}
+		}
+
+		postings.replaceAll((trigram, list) -> Arrays.copyOf(list, sizes.get(trigram)));
+		trigrams = postings;
+	}
+
+	int size()
+	{
+		return items.length;
+	}
+
+	/**
+	 * Find the items whose names contain the given string, ignoring case. Results are ordered
+	 * by exact matches, then names starting with the query, then names with a word starting
+	 * with the query, then other matches.
+	 */
+	List<ItemPrice> search(String query)
+	{
+		query = query.toLowerCase();
+
+		int[] candidates = null;
+		if (query.length() >= 3)
+		{
+			for (int j = 0; j + 3 <= query.length(); ++j)
+			{
+				final int[] list = trigrams.getOrDefault(trigram(query, j), NO_POSTINGS);
+				if (candidates == null || list.length < candidates.length)
+				{
+					candidates = list;
+				}
+			}
+		}
+
+		final int count = candidates != null ? candidates.length : names.length;
+		final List<List<ItemPrice>> ranked = new ArrayList<>(RANK_SUBSTRING + 1);
+		for (int rank = 0; rank <= RANK_SUBSTRING; ++rank)
+		{
+			ranked.add(new ArrayList<>());
+		}
+
+		for (int c = 0; c < count; ++c)
+		{
+			final int i = candidates != null ? candidates[c] : c;
+			final int rank = rank(names[i], query);
+			if (rank != -1)
+			{
+				ranked.get(rank).add(items[i]);
+			}
+		}
+
+		final List<ItemPrice> result = ranked.get(RANK_EXACT);
+		for (int rank = RANK_PREFIX; rank <= RANK_SUBSTRING; ++rank)
+		{
+			result.addAll(ranked.get(rank));
+		}
+		return result;
+	}
+
+	private static int rank(String name, String query)
+	{
+		int idx = name.indexOf(query);
+		if (idx == -1)
+		{
+			return -1;
+		}
+		if (idx == 0)
+		{
+			return name.length() == query.length() ? RANK_EXACT : RANK_PREFIX;
+		}
+
+		for (; idx != -1; idx = name.indexOf(query, idx + 1))
+		{
+			if (!Character.isLetterOrDigit(name.charAt(idx - 1)))
+			{
+				return RANK_WORD_PREFIX;
+			}
+		}
+		return RANK_SUBSTRING;
+	}
+
+	private static long trigram(String s, int offset)
+	{
+		return (long) s.charAt(offset) << 32 | (long) s.charAt(offset + 1) << 16 | s.charAt(offset + 2);
+	}
+}
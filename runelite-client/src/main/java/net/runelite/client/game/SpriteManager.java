@@ -24,11 +24,8 @@
  */
 package net.runelite.client.game;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.awt.image.BufferedImage;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -51,18 +48,15 @@ public class SpriteManager
 	private final Client client;
 	private final ClientThread clientThread;
 	private final InfoBoxManager infoBoxManager;
-
-	private final Cache<Long, BufferedImage> cache = CacheBuilder.newBuilder()
-		.maximumSize(128L)
-		.expireAfterAccess(1, TimeUnit.HOURS)
-		.build();
+	private final ImageCache cache;
 
 	@Inject
-	private SpriteManager(Client client, ClientThread clientThread, InfoBoxManager infoBoxManager)
+	private SpriteManager(Client client, ClientThread clientThread, InfoBoxManager infoBoxManager, ImageCache cache)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.infoBoxManager = infoBoxManager;
+		this.cache = cache;
 	}
 
 	@Nullable
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.chatfilter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Matches a set of filtered words and regexes against messages in a single pass over the words.
+ * The words are compiled into an Aho-Corasick automaton, and the regexes are combined into one
+ * alternation which is checked before running the individual regexes. Each word and regex matches
+ * the same ranges as if it were searched for separately with {@link Matcher#find()}.
+ */
+class ChatFilterMatcher
+{
+	// backreferences are numbered by group, which the combined pattern would renumber
+	private static final Pattern BACKREFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+
+	private static final int[] NO_OUTPUTS = new int[0];
+
+	private static class Node
+	{
+		private final Map<Character, Node> children = new TreeMap<>();
+		private char[] keys;
+		private Node[] next;
+		private Node fail;
+		/**
+		 * The words ending at this node, including those ending at the nodes of its suffixes
+		 */
+		private int[] outputs = NO_OUTPUTS;
+
+		Node get(char c)
+		{
+			final int idx = Arrays.binarySearch(keys, c);
+			return idx >= 0 ? next[idx] : null;
+		}
+	}
+
+	private final Node root = new Node();
+	private final int[] wordLengths;
+	private final boolean hasWords;
+
+	/**
+	 * Patterns which can be combined into one alternation
+	 */
+	private final List<Pattern> combinedPatterns = new ArrayList<>();
+	/**
+	 * The combined patterns in one alternation, or null if there are none
+	 */
+	private final Pattern combined;
+	/**
+	 * Patterns which are not in the combined pattern
+	 */
+	private final List<Pattern> uncombined = new ArrayList<>();
+
+	/**
+	 * @param words words to match, case insensitively
+	 * @param regexes case insensitive patterns to match
+	 */
+	ChatFilterMatcher(Collection<String> words, Collection<Pattern> regexes)
+	{
+		wordLengths = new int[words.size()];
+		int wordIdx = 0;
+		for (String word : words)
+		{
+			wordLengths[wordIdx] = word.length();
+			if (!word.isEmpty())
+			{
+				Node node = root;
+				for (int i = 0; i < word.length(); ++i)
+				{
+					node = node.children.computeIfAbsent(fold(word.charAt(i)), c -> new Node());
+				}
+				node.outputs = Arrays.copyOf(node.outputs, node.outputs.length + 1);
+				node.outputs[node.outputs.length - 1] = wordIdx;
+			}
+			++wordIdx;
+		}
+		hasWords = !root.children.isEmpty();
+		buildLinks();
+
+		final StringBuilder sb = new StringBuilder();
+		for (Pattern pattern : regexes)
+		{
+			if (BACKREFERENCE.matcher(pattern.pattern()).find())
+			{
+				uncombined.add(pattern);
+				continue;
+			}
+
+			if (sb.length() > 0)
+			{
+				sb.append('|');
+			}
+			sb.append("(?:").append(pattern.pattern()).append(')');
+			combinedPatterns.add(pattern);
+		}
+
+		combined = sb.length() > 0 ? compileCombined(sb.toString()) : null;
+		if (combined == null)
+		{
+			uncombined.addAll(combinedPatterns);
+			combinedPatterns.clear();
+		}
+	}
+
+	private static Pattern compileCombined(String pattern)
+	{
+		try
+		{
+			return Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+		}
+		catch (PatternSyntaxException ex)
+		{
+			// eg. patterns sharing a group name
+			return null;
+		}
+	}
+
+	private void buildLinks()
+	{
+		final Deque<Node> queue = new ArrayDeque<>();
+		root.fail = root;
+		queue.add(root);
+
+		while (!queue.isEmpty())
+		{
+			final Node node = queue.poll();
+			node.keys = new char[node.children.size()];
+			node.next = new Node[node.children.size()];
+
+			int i = 0;
+			for (Map.Entry<Character, Node> entry : node.children.entrySet())
+			{
+				final char c = entry.getKey();
+				final Node child = entry.getValue();
+				node.keys[i] = c;
+				node.next[i++] = child;
+
+				if (node == root)
+				{
+					child.fail = root;
+				}
+				else
+				{
+					Node fail = node.fail;
+					while (fail != root && !fail.children.containsKey(c))
+					{
+						fail = fail.fail;
+					}
+					final Node target = fail.children.get(c);
+					child.fail = target != null ? target : root;
+				}
+
+				if (child.fail.outputs.length > 0)
+				{
+					final int[] outputs = Arrays.copyOf(child.outputs, child.outputs.length + child.fail.outputs.length);
+					System.arraycopy(child.fail.outputs, 0, outputs, child.outputs.length, child.fail.outputs.length);
+					child.outputs = outputs;
+				}
+
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Case fold the same way as {@link Pattern#CASE_INSENSITIVE}, which only folds US-ASCII
+	 */
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	/**
+	 * @return true if any word or pattern matches the text
+	 */
+	boolean matches(CharSequence text)
+	{
+		return search(text, null);
+	}
+
+	/**
+	 * Replace the characters of each match in the text with '*'
+	 *
+	 * @param text text to search
+	 * @param censored characters to censor, the same length as the text
+	 * @return true if any word or pattern matched, even if empty
+	 */
+	boolean censor(CharSequence text, char[] censored)
+	{
+		return search(text, censored);
+	}
+
+	private boolean search(CharSequence text, char[] censored)
+	{
+		boolean found = false;
+
+		if (hasWords)
+		{
+			// The end of the last match of each word, so that like Matcher.find() a word's matches do not overlap
+			final int[] lastEnd = censored != null ? new int[wordLengths.length] : null;
+			Node state = root;
+			for (int i = 0; i < text.length(); ++i)
+			{
+				final char c = fold(text.charAt(i));
+				Node next;
+				while ((next = state.get(c)) == null && state != root)
+				{
+					state = state.fail;
+				}
+				state = next != null ? next : root;
+
+				for (int word : state.outputs)
+				{
+					if (censored == null)
+					{
+						return true;
+					}
+
+					final int start = i + 1 - wordLengths[word];
+					if (start >= lastEnd[word])
+					{
+						Arrays.fill(censored, start, i + 1, '*');
+						lastEnd[word] = i + 1;
+						found = true;
+					}
+				}
+			}
+		}
+
+		if (combined != null)
+		{
+			final Matcher m = combined.matcher(text);
+			if (m.find())
+			{
+				if (censored == null)
+				{
+					return true;
+				}
+
+				// patterns may overlap, and the alternation only finds the first matching pattern at each position
+				for (Pattern pattern : combinedPatterns)
+				{
+					found |= censor(pattern, text, censored);
+				}
+			}
+		}
+
+		for (Pattern pattern : uncombined)
+		{
+			if (censored == null)
+			{
+				if (pattern.matcher(text).find())
+				{
+					return true;
+				}
+			}
+			else
+			{
+				found |= censor(pattern, text, censored);
+			}
+		}
+
+		return found;
+	}
+
+	private static boolean censor(Pattern pattern, CharSequence text, char[] censored)
+	{
+		final Matcher m = pattern.matcher(text);
+		boolean found = false;
+		while (m.find())
+		{
+			Arrays.fill(censored, m.start(), m.end(), '*');
+			found = true;
+		}
+		return found;
+	}
+}
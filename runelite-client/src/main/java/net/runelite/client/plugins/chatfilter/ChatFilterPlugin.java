@@ -38,8 +38,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import javax.inject.Inject;
@@ -98,8 +96,9 @@ public class ChatFilterPlugin extends Plugin
 	);
 
 	private static final CharMatcher jagexPrintableCharMatcher = Text.JAGEX_PRINTABLE_CHAR_MATCHER;
-	private List<Pattern> filteredPatterns = Collections.emptyList();
-	private List<Pattern> filteredNamePatterns = Collections.emptyList();
+	private static final ChatFilterMatcher EMPTY_MATCHER = new ChatFilterMatcher(Collections.emptyList(), Collections.emptyList());
+	private ChatFilterMatcher messageMatcher = EMPTY_MATCHER;
+	private ChatFilterMatcher nameMatcher = EMPTY_MATCHER;
 
 	private static class Duplicate
 	{
@@ -131,6 +130,18 @@ public class ChatFilterPlugin extends Plugin
 
 	private final Map<ChatMessageType, FilterCacheMap> filterCache = new HashMap<>();
 
+	// recent messages and their censored form, as spam is often the same message repeated
+	private final LinkedHashMap<String, String> verdictCache = new LinkedHashMap<>(16, 0.75f, true)
+	{
+		private static final int MAX_ENTRIES = 256;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+		{
+			return size() > MAX_ENTRIES;
+		}
+	};
+
 	@Inject
 	private Client client;
 
@@ -153,10 +164,11 @@ public class ChatFilterPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
-		filteredPatterns = Collections.emptyList();
-		filteredNamePatterns = Collections.emptyList();
+		messageMatcher = EMPTY_MATCHER;
+		nameMatcher = EMPTY_MATCHER;
 		duplicateChatCache.clear();
 		filterCache.clear();
+		verdictCache.clear();
 		client.refreshChat();
 	}
 
@@ -342,19 +354,12 @@ public class ChatFilterPlugin extends Plugin
 
 	String censorMessage(final String username, final String message)
 	{
-		String strippedMessage = jagexPrintableCharMatcher.retainFrom(message)
-			.replace('\u00A0', ' ')
-			.replace("<lt>", "<")
-			.replace("<gt>", ">");
-		String strippedAccents = stripAccents(strippedMessage);
-		assert strippedMessage.length() == strippedAccents.length();
-
 		if (username != null && isNameFiltered(username))
 		{
 			switch (config.filterType())
 			{
 				case CENSOR_WORDS:
-					return StringUtils.repeat('*', strippedMessage.length());
+					return StringUtils.repeat('*', stripMessage(message).length());
 				case CENSOR_MESSAGE:
 					return CENSOR_MESSAGE;
 				case REMOVE_MESSAGE:
@@ -362,38 +367,42 @@ public class ChatFilterPlugin extends Plugin
 			}
 		}
 
-		boolean filtered = false;
-		for (Pattern pattern : filteredPatterns)
+		if (verdictCache.containsKey(message))
 		{
-			Matcher m = pattern.matcher(strippedAccents);
+			return verdictCache.get(message);
+		}
 
-			StringBuilder sb = new StringBuilder();
-			int idx = 0;
+		final String censoredMessage = censorWords(message);
+		verdictCache.put(message, censoredMessage);
+		return censoredMessage;
+	}
 
-			while (m.find())
-			{
-				switch (config.filterType())
-				{
-					case CENSOR_WORDS:
-						MatchResult matchResult = m.toMatchResult();
-						sb.append(strippedMessage, idx, matchResult.start())
-							.append(StringUtils.repeat('*', matchResult.group().length()));
-						idx = m.end();
-						filtered = true;
-						break;
-					case CENSOR_MESSAGE:
-						return CENSOR_MESSAGE;
-					case REMOVE_MESSAGE:
-						return null;
-				}
-			}
-			sb.append(strippedMessage.substring(idx));
+	private String censorWords(final String message)
+	{
+		final String strippedMessage = stripMessage(message);
+		final String strippedAccents = stripAccents(strippedMessage);
+		assert strippedMessage.length() == strippedAccents.length();
 
-			strippedMessage = sb.toString();
-			assert strippedMessage.length() == strippedAccents.length();
+		switch (config.filterType())
+		{
+			case CENSOR_WORDS:
+				final char[] censored = strippedMessage.toCharArray();
+				return messageMatcher.censor(strippedAccents, censored) ? new String(censored) : message;
+			case CENSOR_MESSAGE:
+				return messageMatcher.matches(strippedAccents) ? CENSOR_MESSAGE : message;
+			case REMOVE_MESSAGE:
+				return messageMatcher.matches(strippedAccents) ? null : message;
 		}
 
-		return filtered ? strippedMessage : message;
+		return message;
+	}
+
+	private static String stripMessage(final String message)
+	{
+		return jagexPrintableCharMatcher.retainFrom(message)
+			.replace('\u00A0', ' ')
+			.replace("<lt>", "<")
+			.replace("<gt>", ">");
 	}
 
 	private String censorMessage(MessageNode messageNode, String username, String message)
@@ -417,13 +426,13 @@ public class ChatFilterPlugin extends Plugin
 
 	void updateFilteredPatterns()
 	{
+		List<String> words = new ArrayList<>();
 		List<Pattern> patterns = new ArrayList<>();
 		List<Pattern> namePatterns = new ArrayList<>();
 
 		Text.fromCSV(config.filteredWords()).stream()
 			.map(this::stripAccents)
-			.map(s -> Pattern.compile(Pattern.quote(s), Pattern.CASE_INSENSITIVE))
-			.forEach(patterns::add);
+			.forEach(words::add);
 
 		NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
 			.map(this::stripAccents)
@@ -437,10 +446,11 @@ public class ChatFilterPlugin extends Plugin
 			.filter(Objects::nonNull)
 			.forEach(namePatterns::add);
 
-		filteredPatterns = patterns;
-		filteredNamePatterns = namePatterns;
+		messageMatcher = new ChatFilterMatcher(words, patterns);
+		nameMatcher = new ChatFilterMatcher(Collections.emptyList(), namePatterns);
 
 		filterCache.clear();
+		verdictCache.clear();
 	}
 
 	private String stripAccents(String input)
@@ -478,14 +488,6 @@ public class ChatFilterPlugin extends Plugin
 	boolean isNameFiltered(final String playerName)
 	{
 		String sanitizedName = Text.standardize(playerName);
-		for (Pattern pattern : filteredNamePatterns)
-		{
-			Matcher m = pattern.matcher(sanitizedName);
-			if (m.find())
-			{
-				return true;
-			}
-		}
-		return false;
+		return nameMatcher.matches(sanitizedName);
 	}
 }
@@ -59,6 +59,8 @@ class DevToolsPanel extends PluginPanel
 	private final WidgetInspector widgetInspector;
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
+	private final EventBusInspector eventBusInspector;
+	private final OverlayInspector overlayInspector;
 	private final InventoryInspector inventoryInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
@@ -72,6 +74,8 @@ class DevToolsPanel extends PluginPanel
 		WidgetInspector widgetInspector,
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
+		EventBusInspector eventBusInspector,
+		OverlayInspector overlayInspector,
 		InventoryInspector inventoryInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
@@ -86,6 +90,8 @@ class DevToolsPanel extends PluginPanel
 		this.varInspector = varInspector;
 		this.inventoryInspector = inventoryInspector;
 		this.scriptInspector = scriptInspector;
+		this.eventBusInspector = eventBusInspector;
+		this.overlayInspector = overlayInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 		this.scheduledExecutorService = scheduledExecutorService;
@@ -153,6 +159,12 @@ class DevToolsPanel extends PluginPanel
 		container.add(plugin.getScriptInspector());
 		plugin.getScriptInspector().addFrame(scriptInspector);
 
+		container.add(plugin.getEventBusInspector());
+		plugin.getEventBusInspector().addFrame(eventBusInspector);
+
+		container.add(plugin.getOverlayInspector());
+		plugin.getOverlayInspector().addFrame(overlayInspector);
+
 		final JButton newInfoboxBtn = new JButton("Infobox");
 		newInfoboxBtn.addActionListener(e ->
 		{
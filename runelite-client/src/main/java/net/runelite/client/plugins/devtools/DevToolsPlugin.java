@@ -167,6 +167,8 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton varInspector;
 	private DevToolsButton soundEffects;
 	private DevToolsButton scriptInspector;
+	private DevToolsButton eventBusInspector;
+	private DevToolsButton overlayInspector;
 	private DevToolsButton inventoryInspector;
 	private DevToolsButton tileFlags;
 	private DevToolsButton shell;
@@ -269,6 +271,8 @@ public class DevToolsPlugin extends Plugin
 		varInspector = new DevToolsButton("Var Inspector");
 		soundEffects = new DevToolsButton("Sound Effects");
 		scriptInspector = new DevToolsButton("Script Inspector");
+		eventBusInspector = new DevToolsButton("Event Bus");
+		overlayInspector = new DevToolsButton("Overlay Timings");
 		inventoryInspector = new DevToolsButton("Inventory Inspector");
 		tileFlags = new DevToolsButton("Tile flags");
 		shell = new DevToolsButton("Shell");
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.client.eventbus.EventBus;
+
+class EventBusInspector extends TimingsInspector<EventBus.SubscriberTiming>
+{
+	private final EventBus eventBus;
+
+	@Inject
+	EventBusInspector(EventBus eventBus)
+	{
+		super("RuneLite Event Bus Inspector", "Event bus subscriber timings", 800, List.of(
+			new Column<>("Event", String.class, timing -> timing.getEventType().getSimpleName()),
+			new Column<>("Subscriber", String.class, timing -> timing.getSubscriber().getName()),
+			new Column<>("Calls", Long.class, EventBus.SubscriberTiming::getCalls),
+			new Column<>("Total (ms)", Long.class, timing -> timing.getTotalNanos() / 1_000_000L),
+			new Column<>("Avg (us)", Long.class, timing -> timing.getCalls() > 0 ? timing.getTotalNanos() / timing.getCalls() / 1_000L : 0L),
+			new Column<>("Max (us)", Long.class, timing -> timing.getMaxNanos() / 1_000L),
+			new Column<>("Queued", Long.class, timing -> (long) timing.getQueued()),
+			new Column<>("Dropped", Long.class, EventBus.SubscriberTiming::getDropped)
+		));
+		this.eventBus = eventBus;
+	}
+
+	@Override
+	List<EventBus.SubscriberTiming> getTimings()
+	{
+		return eventBus.getTimings();
+	}
+
+	@Override
+	void resetTimings()
+	{
+		eventBus.resetTimings();
+	}
+
+	@Override
+	void setCollecting(boolean collecting)
+	{
+		eventBus.setInstrumented(collecting);
+	}
+}
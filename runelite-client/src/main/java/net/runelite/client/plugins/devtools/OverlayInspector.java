@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.client.ui.overlay.OverlayProfiler;
+
+class OverlayInspector extends TimingsInspector<OverlayProfiler.OverlayTiming>
+{
+	private final OverlayProfiler overlayProfiler;
+
+	@Inject
+	OverlayInspector(OverlayProfiler overlayProfiler)
+	{
+		super("RuneLite Overlay Inspector", "Overlay render timings", 700, List.of(
+			new Column<>("Overlay", String.class, timing -> timing.getOverlay() != null ? timing.getOverlay() : "(layer total)"),
+			new Column<>("Layer", String.class, timing -> timing.getLayer().name()),
+			new Column<>("Samples", Long.class, OverlayProfiler.OverlayTiming::getSamples),
+			new Column<>("p50 (us)", Long.class, timing -> timing.getP50Nanos() / 1_000L),
+			new Column<>("p99 (us)", Long.class, timing -> timing.getP99Nanos() / 1_000L),
+			new Column<>("Max (us)", Long.class, timing -> timing.getMaxNanos() / 1_000L),
+			new Column<>("Skipped", Long.class, OverlayProfiler.OverlayTiming::getSkipped)
+		));
+		this.overlayProfiler = overlayProfiler;
+	}
+
+	@Override
+	List<OverlayProfiler.OverlayTiming> getTimings()
+	{
+		return overlayProfiler.getTimings();
+	}
+
+	@Override
+	void resetTimings()
+	{
+		overlayProfiler.reset();
+	}
+
+	@Override
+	void setCollecting(boolean collecting)
+	{
+		overlayProfiler.setEnabled(collecting);
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A frame showing a table of timings which refreshes every second while open, with buttons
+ * to reset the timings and to dump them to the log.
+ *
+ * @param <T> the type of a row of timings
+ */
+@Slf4j
+abstract class TimingsInspector<T> extends DevToolsFrame
+{
+	@RequiredArgsConstructor
+	static class Column<T>
+	{
+		private final String name;
+		private final Class<?> type;
+		private final Function<T, Object> value;
+	}
+
+	private final String dumpTitle;
+	private final List<Column<T>> columns;
+	private final TimingsTableModel tableModel = new TimingsTableModel();
+	private final Timer refreshTimer = new Timer(1000, e -> refresh());
+
+	TimingsInspector(String title, String dumpTitle, int width, List<Column<T>> columns)
+	{
+		this.dumpTitle = dumpTitle;
+		this.columns = columns;
+
+		setTitle(title);
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(tableModel);
+		table.setAutoCreateRowSorter(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(width, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JPanel buttons = new JPanel();
+		buttons.setLayout(new FlowLayout());
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			resetTimings();
+			refresh();
+		});
+		buttons.add(resetBtn);
+
+		final JButton dumpBtn = new JButton("Dump");
+		dumpBtn.addActionListener(e -> dump());
+		buttons.add(dumpBtn);
+
+		add(buttons, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	abstract List<T> getTimings();
+
+	abstract void resetTimings();
+
+	/**
+	 * Start or stop collecting timings
+	 */
+	abstract void setCollecting(boolean collecting);
+
+	@Override
+	public void open()
+	{
+		resetTimings();
+		setCollecting(true);
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		refreshTimer.stop();
+		setCollecting(false);
+	}
+
+	private void refresh()
+	{
+		tableModel.timings = getTimings();
+		tableModel.fireTableDataChanged();
+	}
+
+	private void dump()
+	{
+		final StringBuilder sb = new StringBuilder(dumpTitle).append(':');
+		for (T timing : getTimings())
+		{
+			sb.append(String.format("%n"));
+			for (Column<T> column : columns)
+			{
+				sb.append(' ').append(column.name).append(": ").append(column.value.apply(timing));
+			}
+		}
+		log.info(sb.toString());
+	}
+
+	private class TimingsTableModel extends AbstractTableModel
+	{
+		private List<T> timings = Collections.emptyList();
+
+		@Override
+		public int getRowCount()
+		{
+			return timings.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return columns.size();
+		}
+
+		@Override
+		public String getColumnName(int column)
+		{
+			return columns.get(column).name;
+		}
+
+		@Override
+		public Class<?> getColumnClass(int column)
+		{
+			return columns.get(column).type;
+		}
+
+		@Override
+		public Object getValueAt(int row, int column)
+		{
+			return columns.get(column).value.apply(timings.get(row));
+		}
+	}
+}
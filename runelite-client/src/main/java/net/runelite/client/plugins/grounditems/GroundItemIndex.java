@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Table;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import net.runelite.api.Constants;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Ground items keyed by tile and item id, with the occupied tiles additionally bucketed
+ * by chunk so that the items near a point can be found without visiting every item.
+ * Items on world views other than the top level one (eg. boats) are not bucketed, and
+ * are always returned by {@link #query(WorldPoint, int, Collection)}.
+ */
+class GroundItemIndex
+{
+	private static final int CHUNK_SHIFT = 3;
+
+	private final Table<WorldPoint, Integer, GroundItem> items = HashBasedTable.create();
+	private final Map<Long, Set<WorldPoint>> chunks = new HashMap<>();
+	private final Set<WorldPoint> detached = new LinkedHashSet<>();
+
+	GroundItem get(WorldPoint point, int id)
+	{
+		return items.get(point, id);
+	}
+
+	void put(WorldPoint point, int id, GroundItem item)
+	{
+		if (!items.containsRow(point))
+		{
+			index(point, item);
+		}
+		items.put(point, id, item);
+	}
+
+	void remove(WorldPoint point, int id)
+	{
+		if (items.remove(point, id) != null && !items.containsRow(point))
+		{
+			unindex(point);
+		}
+	}
+
+	void removeIf(Predicate<GroundItem> filter)
+	{
+		if (items.values().removeIf(filter))
+		{
+			chunks.clear();
+			detached.clear();
+			for (Map.Entry<WorldPoint, Map<Integer, GroundItem>> row : items.rowMap().entrySet())
+			{
+				index(row.getKey(), row.getValue().values().iterator().next());
+			}
+		}
+	}
+
+	void clear()
+	{
+		items.clear();
+		chunks.clear();
+		detached.clear();
+	}
+
+	/**
+	 * The items on a tile, in the order they were added
+	 */
+	Collection<GroundItem> at(WorldPoint point)
+	{
+		return items.row(point).values();
+	}
+
+	Set<WorldPoint> points()
+	{
+		return items.rowKeySet();
+	}
+
+	Collection<GroundItem> values()
+	{
+		return items.values();
+	}
+
+	/**
+	 * Add the items within the chunks overlapping the square of the given radius around a point,
+	 * on any plane, plus all items not on the top level world view. Items on the same tile are
+	 * added consecutively in the order they were added to the index.
+	 *
+	 * @param center the center of the area
+	 * @param radius the radius of the area, in tiles
+	 * @param out    the collection to add the items to
+	 */
+	void query(WorldPoint center, int radius, Collection<GroundItem> out)
+	{
+		for (WorldPoint point : detached)
+		{
+			out.addAll(items.row(point).values());
+		}
+
+		if (chunks.isEmpty())
+		{
+			return;
+		}
+
+		final int minX = (center.getX() - radius) >> CHUNK_SHIFT;
+		final int maxX = (center.getX() + radius) >> CHUNK_SHIFT;
+		final int minY = (center.getY() - radius) >> CHUNK_SHIFT;
+		final int maxY = (center.getY() + radius) >> CHUNK_SHIFT;
+		for (int plane = 0; plane < Constants.MAX_Z; ++plane)
+		{
+			for (int cx = minX; cx <= maxX; ++cx)
+			{
+				for (int cy = minY; cy <= maxY; ++cy)
+				{
+					Set<WorldPoint> points = chunks.get(chunkKey(plane, cx, cy));
+					if (points == null)
+					{
+						continue;
+					}
+
+					for (WorldPoint point : points)
+					{
+						out.addAll(items.row(point).values());
+					}
+				}
+			}
+		}
+	}
+
+	private void index(WorldPoint point, GroundItem item)
+	{
+		WorldView wv = item.getItemLayer().getWorldView();
+		if (wv != null && !wv.isTopLevel())
+		{
+			detached.add(point);
+			return;
+		}
+
+		chunks.computeIfAbsent(chunkKey(point), k -> new LinkedHashSet<>()).add(point);
+	}
+
+	private void unindex(WorldPoint point)
+	{
+		if (detached.remove(point))
+		{
+			return;
+		}
+
+		long key = chunkKey(point);
+		Set<WorldPoint> points = chunks.get(key);
+		if (points != null && points.remove(point) && points.isEmpty())
+		{
+			chunks.remove(key);
+		}
+	}
+
+	private static long chunkKey(WorldPoint point)
+	{
+		return chunkKey(point.getPlane(), point.getX() >> CHUNK_SHIFT, point.getY() >> CHUNK_SHIFT);
+	}
+
+	private static long chunkKey(int plane, int chunkX, int chunkY)
+	{
+		return ((long) plane << 48) | ((long) (chunkX & 0xFFFFFF) << 24) | (chunkY & 0xFFFFFF);
+	}
+}
@@ -34,8 +34,8 @@ import java.awt.Rectangle;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -64,6 +64,8 @@ import net.runelite.client.util.QuantityFormatter;
 public class GroundItemsOverlay extends Overlay
 {
 	private static final int MAX_DISTANCE = 2500;
+	// MAX_DISTANCE in tiles, rounded up, for querying the item index
+	private static final int MAX_TILE_DISTANCE = (MAX_DISTANCE + Perspective.LOCAL_TILE_SIZE - 1) / Perspective.LOCAL_TILE_SIZE;
 	// We must offset the text on the z-axis such that
 	// it doesn't obscure the ground items below it.
 	private static final int OFFSET_Z = 20;
@@ -83,6 +85,7 @@ public class GroundItemsOverlay extends Overlay
 	private final TextComponent textComponent = new TextComponent();
 	private final ProgressPieComponent progressPieComponent = new ProgressPieComponent();
 	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
+	private final List<GroundItem> groundItemList = new ArrayList<>();
 
 	@Inject
 	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
@@ -115,14 +118,20 @@ public class GroundItemsOverlay extends Overlay
 
 		offsetMap.clear();
 		final Point mousePos = client.getMouseCanvasPosition();
-		Collection<GroundItem> groundItemList = plugin.getCollectedGroundItems().values();
+		groundItemList.clear();
+		if (player.getWorldView().isTopLevel())
+		{
+			// Only the items near the player can be within MAX_DISTANCE, so there is no need to look at the rest
+			plugin.getCollectedGroundItems().query(player.getWorldLocation(), MAX_TILE_DISTANCE, groundItemList);
+		}
+		else
+		{
+			groundItemList.addAll(plugin.getCollectedGroundItems().values());
+		}
 		GroundItem topGroundItem = null;
 
 		if (plugin.isHotKeyPressed())
 		{
-			// Make copy of ground items because we are going to modify them here, and the array list supports our
-			// desired behaviour here
-			groundItemList = new ArrayList<>(groundItemList);
 			final java.awt.Point awtMousePos = new java.awt.Point(mousePos.getX(), mousePos.getY());
 			GroundItem groundItem = null;
 
@@ -385,6 +394,7 @@ public class GroundItemsOverlay extends Overlay
 			textComponent.render(graphics);
 		}
 
+		groundItemList.clear();
 		return null;
 	}
 
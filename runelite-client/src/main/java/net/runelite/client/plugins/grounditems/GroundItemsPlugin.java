@@ -26,9 +26,7 @@
 package net.runelite.client.plugins.grounditems;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Table;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.awt.Rectangle;
@@ -78,6 +76,7 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ItemPricesChanged;
 import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.input.KeyManager;
@@ -184,9 +183,10 @@ public class GroundItemsPlugin extends Plugin
 	private ColorPickerManager colorPickerManager;
 
 	@Getter
-	private final Table<WorldPoint, Integer, GroundItem> collectedGroundItems = HashBasedTable.create();
+	private final GroundItemIndex collectedGroundItems = new GroundItemIndex();
 	private List<PriceHighlight> priceChecks = ImmutableList.of();
 	private final Map<WorldPoint, Lootbeam> lootbeams = new HashMap<>();
+	private final MenuEntryCollapser menuEntryCollapser = new MenuEntryCollapser();
 
 	@Provides
 	GroundItemsConfig provideConfig(ConfigManager configManager)
@@ -223,6 +223,23 @@ public class GroundItemsPlugin extends Plugin
 		}
 	}
 
+	@Subscribe
+	public void onItemPricesChanged(ItemPricesChanged itemPricesChanged)
+	{
+		clientThread.invokeLater(() ->
+		{
+			for (GroundItem item : collectedGroundItems.values())
+			{
+				if (item.getItemId() != COINS)
+				{
+					item.setGePrice(itemManager.getItemPrice(item.getItemId()));
+					item.reset();
+				}
+			}
+			handleLootbeams();
+		});
+	}
+
 	@Subscribe
 	public void onProfileChanged(ProfileChanged profileChanged)
 	{
@@ -248,7 +265,7 @@ public class GroundItemsPlugin extends Plugin
 	public void onWorldViewUnloaded(WorldViewUnloaded event)
 	{
 		var wv = event.getWorldView();
-		collectedGroundItems.values().removeIf(g -> g.getItemLayer().getWorldView() == wv);
+		collectedGroundItems.removeIf(g -> g.getItemLayer().getWorldView() == wv);
 		lootbeams.values().removeIf(l -> l.getWorldView() == wv.getId());
 	}
 
@@ -351,45 +368,11 @@ public class GroundItemsPlugin extends Plugin
 			return;
 		}
 
-		final MenuEntry[] menuEntries = client.getMenuEntries();
-		final List<MenuEntryWithCount> newEntries = new ArrayList<>(menuEntries.length);
-
-		outer:
-		for (int i = menuEntries.length - 1; i >= 0; i--)
+		final MenuEntry[] menuEntries = menuEntryCollapser.collapse(client.getMenuEntries());
+		if (menuEntries != null)
 		{
-			MenuEntry menuEntry = menuEntries[i];
-
-			MenuAction menuType = menuEntry.getType();
-			if (menuType == MenuAction.GROUND_ITEM_FIRST_OPTION || menuType == MenuAction.GROUND_ITEM_SECOND_OPTION
-				|| menuType == MenuAction.GROUND_ITEM_THIRD_OPTION || menuType == MenuAction.GROUND_ITEM_FOURTH_OPTION
-				|| menuType == MenuAction.GROUND_ITEM_FIFTH_OPTION || menuType == MenuAction.EXAMINE_ITEM_GROUND)
-			{
-				for (MenuEntryWithCount entryWCount : newEntries)
-				{
-					if (entryWCount.getEntry().equals(menuEntry))
-					{
-						entryWCount.increment();
-						continue outer;
-					}
-				}
-			}
-
-			newEntries.add(new MenuEntryWithCount(menuEntry));
+			client.setMenuEntries(menuEntries);
 		}
-
-		Collections.reverse(newEntries);
-
-		client.setMenuEntries(newEntries.stream().map(e ->
-		{
-			final MenuEntry entry = e.getEntry();
-			final int count = e.getCount();
-			if (count > 1)
-			{
-				entry.setTarget(entry.getTarget() + " x " + count);
-			}
-
-			return entry;
-		}).toArray(MenuEntry[]::new));
 	}
 
 	private GroundItem buildGroundItem(final ItemLayer layer, final TileItem item)
@@ -763,7 +746,7 @@ public class GroundItemsPlugin extends Plugin
 
 		int highestPrice = -1;
 		GroundItem highestItem = null;
-		Collection<GroundItem> groundItems = collectedGroundItems.row(worldPoint).values();
+		Collection<GroundItem> groundItems = collectedGroundItems.at(worldPoint);
 		final OwnershipFilterMode ownershipFilterMode = config.ownershipFilterMode();
 		final int accountType = client.getVarbitValue(VarbitID.IRONMAN);
 		for (GroundItem groundItem : groundItems)
@@ -819,7 +802,7 @@ public class GroundItemsPlugin extends Plugin
 
 	private void handleLootbeams()
 	{
-		for (WorldPoint worldPoint : collectedGroundItems.rowKeySet())
+		for (WorldPoint worldPoint : collectedGroundItems.points())
 		{
 			handleLootbeam(worldPoint);
 		}
@@ -28,7 +28,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.Value;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardSet;
 
 @Value
 class ItemList
@@ -38,6 +38,9 @@ class ItemList
 	static final int EXACT = 2;
 
 	List<ItemThreshold> items;
+	// the items with a wildcard, and their name patterns compiled in the same order
+	List<ItemThreshold> wildcardItems;
+	WildcardSet wildcards;
 
 	ItemList(List<String> items)
 	{
@@ -45,6 +48,13 @@ class ItemList
 			.map(ItemThreshold::fromName)
 			.filter(Objects::nonNull)
 			.collect(Collectors.toList());
+
+		this.wildcardItems = this.items.stream()
+			.filter(ItemThreshold::isWildcard)
+			.collect(Collectors.toList());
+		this.wildcards = WildcardSet.of(wildcardItems.stream()
+			.map(ItemThreshold::getName)
+			.collect(Collectors.toList()));
 	}
 
 	int matches(GroundItem item)
@@ -59,14 +69,10 @@ class ItemList
 			}
 		}
 
-		for (ItemThreshold it : items)
+		if (!wildcards.isEmpty()
+			&& wildcards.matches(item.getName(), i -> wildcardItems.get(i).quantityHolds(item.getQuantity())))
 		{
-			if (it.isWildcard()
-				&& WildcardMatcher.matches(it.getName(), item.getName())
-				&& it.quantityHolds(item.getQuantity()))
-			{
-				return WILDCARD;
-			}
+			return WILDCARD;
 		}
 
 		return NONE;
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+
+/**
+ * Collapses identical ground item menu entries into a single entry with a count appended to
+ * its target. Entries are grouped by a hash of their type, identifier and tile, so collapsing is
+ * linear in the size of the menu, and the buffers are reused so that a menu which has nothing to
+ * collapse, such as one which was already collapsed, is checked without allocating.
+ */
+class MenuEntryCollapser
+{
+	// kept entries and their counts, in top-down menu order
+	private MenuEntry[] entries = new MenuEntry[0];
+	private int[] counts = new int[0];
+	private long[] keys = new long[0];
+	// open addressed hash table of kept entry index + 1, 0 is empty
+	private int[] table = new int[0];
+
+	/**
+	 * Collapse a menu
+	 *
+	 * @param menuEntries the menu entries, bottom entry first
+	 * @return the collapsed menu entries, or null if there are no entries to collapse
+	 */
+	@Nullable
+	MenuEntry[] collapse(MenuEntry[] menuEntries)
+	{
+		final int length = menuEntries.length;
+		if (entries.length < length)
+		{
+			entries = new MenuEntry[length];
+			counts = new int[length];
+			keys = new long[length];
+		}
+
+		final int tableSize = Integer.highestOneBit(Math.max(length, 1)) << 2;
+		if (table.length < tableSize)
+		{
+			table = new int[tableSize];
+		}
+		else
+		{
+			Arrays.fill(table, 0);
+		}
+
+		final int mask = table.length - 1;
+		int size = 0;
+		boolean collapsed = false;
+
+		// The top most entry of each group is kept
+		for (int i = length - 1; i >= 0; i--)
+		{
+			final MenuEntry menuEntry = menuEntries[i];
+			final MenuAction menuType = menuEntry.getType();
+			if (isGroundItem(menuType))
+			{
+				final long key = key(menuType, menuEntry);
+				int h = hash(key) & mask;
+				int index;
+				while ((index = table[h]) != 0 && (keys[index - 1] != key || !entries[index - 1].equals(menuEntry)))
+				{
+					h = (h + 1) & mask;
+				}
+
+				if (index != 0)
+				{
+					counts[index - 1]++;
+					collapsed = true;
+					continue;
+				}
+
+				table[h] = size + 1;
+				keys[size] = key;
+			}
+
+			entries[size] = menuEntry;
+			counts[size] = 1;
+			size++;
+		}
+
+		MenuEntry[] result = null;
+		if (collapsed)
+		{
+			result = new MenuEntry[size];
+			for (int i = 0; i < size; i++)
+			{
+				final MenuEntry entry = entries[size - 1 - i];
+				final int count = counts[size - 1 - i];
+				if (count > 1)
+				{
+					entry.setTarget(entry.getTarget() + " x " + count);
+				}
+
+				result[i] = entry;
+			}
+		}
+
+		Arrays.fill(entries, 0, size, null);
+		return result;
+	}
+
+	private static boolean isGroundItem(MenuAction menuType)
+	{
+		return menuType == MenuAction.GROUND_ITEM_FIRST_OPTION || menuType == MenuAction.GROUND_ITEM_SECOND_OPTION
+			|| menuType == MenuAction.GROUND_ITEM_THIRD_OPTION || menuType == MenuAction.GROUND_ITEM_FOURTH_OPTION
+			|| menuType == MenuAction.GROUND_ITEM_FIFTH_OPTION || menuType == MenuAction.EXAMINE_ITEM_GROUND;
+	}
+
+	private static long key(MenuAction menuType, MenuEntry menuEntry)
+	{
+		// the item id, scene x and scene y of the tile, and type. Entries with colliding keys
+		// are told apart with equals().
+		return ((long) menuEntry.getIdentifier() << 32)
+			| ((long) (menuEntry.getParam0() & 0xFFF) << 20)
+			| ((menuEntry.getParam1() & 0xFFF) << 8)
+			| (menuType.getId() & 0xFF);
+	}
+
+	private static int hash(long key)
+	{
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+	}
+}
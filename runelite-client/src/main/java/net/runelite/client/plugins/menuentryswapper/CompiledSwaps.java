@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import com.google.common.collect.Multimap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.ITEM_KEY_PREFIX;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.NPC_KEY_PREFIX;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.NPC_SHIFT_KEY_PREFIX;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.OBJECT_KEY_PREFIX;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.OBJECT_SHIFT_KEY_PREFIX;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.SHIFTCLICK_CONFIG_GROUP;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.UI_KEY_PREFIX;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.UI_SHIFT_KEY_PREFIX;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.WORN_ITEM_KEY_PREFIX;
+import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperPlugin.WORN_ITEM_SHIFT_KEY_PREFIX;
+
+/**
+ * The swap configuration resolved ahead of time for swapping menus, so that swapping
+ * does no config lookups. Rebuilt whenever the swapper's configuration changes.
+ */
+@Slf4j
+class CompiledSwaps
+{
+	private static final Swap[] NO_SWAPS = new Swap[0];
+
+	final int generation;
+
+	final boolean leftClickCustomization;
+	final boolean shiftClickCustomization;
+	final boolean objectShiftClickWalkHere;
+	final boolean npcShiftClickWalkHere;
+	final boolean groundItemShiftClickWalkHere;
+	final boolean removeDeadNpcMenus;
+	final ShiftDepositMode bankDepositShiftClick;
+	final ShiftWithdrawMode bankWithdrawShiftClick;
+
+	// enabled built-in swaps by option, when not holding shift and when holding shift
+	private final Map<String, Swap[]> swaps = new HashMap<>();
+	private final Map<String, Swap[]> shiftSwaps = new HashMap<>();
+
+	private final Map<Integer, Integer> items = new HashMap<>();
+	private final Map<Integer, Integer> shiftItems = new HashMap<>();
+	private final Map<Integer, Integer> wornItems = new HashMap<>();
+	private final Map<Integer, Integer> shiftWornItems = new HashMap<>();
+	private final Map<Integer, Integer> objects = new HashMap<>();
+	private final Map<Integer, Integer> shiftObjects = new HashMap<>();
+	private final Map<Integer, Integer> npcs = new HashMap<>();
+	private final Map<Integer, Integer> shiftNpcs = new HashMap<>();
+	// keyed by component id << 32 | item id
+	private final Map<Long, Integer> ui = new HashMap<>();
+	private final Map<Long, Integer> shiftUi = new HashMap<>();
+
+	CompiledSwaps(int generation, MenuEntrySwapperConfig config, ConfigManager configManager, Multimap<String, Swap> swaps)
+	{
+		this.generation = generation;
+
+		leftClickCustomization = config.leftClickCustomization();
+		shiftClickCustomization = config.shiftClickCustomization();
+		objectShiftClickWalkHere = config.objectShiftClickWalkHere();
+		npcShiftClickWalkHere = config.npcShiftClickWalkHere();
+		groundItemShiftClickWalkHere = config.groundItemShiftClickWalkHere();
+		removeDeadNpcMenus = config.removeDeadNpcMenus();
+		bankDepositShiftClick = config.bankDepositShiftClick();
+		bankWithdrawShiftClick = config.bankWithdrawShiftClick();
+
+		for (Map.Entry<String, Collection<Swap>> entry : swaps.asMap().entrySet())
+		{
+			compile(this.swaps, entry.getKey(), entry.getValue(), false);
+			compile(this.shiftSwaps, entry.getKey(), entry.getValue(), true);
+		}
+
+		final String groupPrefix = MenuEntrySwapperConfig.GROUP + ".";
+		for (String key : configManager.getConfigurationKeys(groupPrefix))
+		{
+			key = key.substring(groupPrefix.length());
+			final String value = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, key);
+
+			try
+			{
+				// shift prefixes first, as the non-shift prefixes are prefixes of them
+				if (!(load(key, value, OBJECT_SHIFT_KEY_PREFIX, shiftObjects)
+					|| load(key, value, OBJECT_KEY_PREFIX, objects)
+					|| load(key, value, NPC_SHIFT_KEY_PREFIX, shiftNpcs)
+					|| load(key, value, NPC_KEY_PREFIX, npcs)
+					|| load(key, value, WORN_ITEM_SHIFT_KEY_PREFIX, shiftWornItems)
+					|| load(key, value, WORN_ITEM_KEY_PREFIX, wornItems)
+					|| load(key, value, ITEM_KEY_PREFIX, items)
+					|| loadUi(key, value, UI_SHIFT_KEY_PREFIX, shiftUi)))
+				{
+					loadUi(key, value, UI_KEY_PREFIX, ui);
+				}
+			}
+			catch (NumberFormatException ex)
+			{
+				log.debug("Ignoring invalid swap {}: {}", key, value);
+			}
+		}
+
+		final String shiftGroupPrefix = SHIFTCLICK_CONFIG_GROUP + ".";
+		for (String key : configManager.getConfigurationKeys(shiftGroupPrefix + ITEM_KEY_PREFIX))
+		{
+			key = key.substring(shiftGroupPrefix.length());
+			final String value = configManager.getConfiguration(SHIFTCLICK_CONFIG_GROUP, key);
+
+			try
+			{
+				load(key, value, ITEM_KEY_PREFIX, shiftItems);
+			}
+			catch (NumberFormatException ex)
+			{
+				log.debug("Ignoring invalid swap {}: {}", key, value);
+			}
+		}
+	}
+
+	private static void compile(Map<String, Swap[]> compiled, String option, Collection<Swap> swaps, boolean shift)
+	{
+		final List<Swap> enabled = new ArrayList<>(swaps.size());
+		for (Swap swap : swaps)
+		{
+			if (swap.getEnabled().test(shift))
+			{
+				enabled.add(swap);
+			}
+		}
+
+		if (!enabled.isEmpty())
+		{
+			compiled.put(option, enabled.toArray(NO_SWAPS));
+		}
+	}
+
+	private static boolean load(String key, String value, String prefix, Map<Integer, Integer> map)
+	{
+		if (!key.startsWith(prefix))
+		{
+			return false;
+		}
+
+		if (value != null && !value.isEmpty())
+		{
+			map.put(Integer.parseInt(key.substring(prefix.length())), Integer.parseInt(value));
+		}
+		return true;
+	}
+
+	private static boolean loadUi(String key, String value, String prefix, Map<Long, Integer> map)
+	{
+		if (!key.startsWith(prefix))
+		{
+			return false;
+		}
+
+		if (value != null && !value.isEmpty())
+		{
+			final String id = key.substring(prefix.length());
+			final int sep = id.indexOf('_');
+			final int componentId = Integer.parseInt(sep == -1 ? id : id.substring(0, sep));
+			final int itemId = sep == -1 ? -1 : Integer.parseInt(id.substring(sep + 1));
+			map.put(uiKey(componentId, itemId), Integer.parseInt(value));
+		}
+		return true;
+	}
+
+	private static long uiKey(int componentId, int itemId)
+	{
+		return (long) componentId << 32 | (itemId & 0xffffffffL);
+	}
+
+	/**
+	 * @return the enabled built-in swaps for the given option, which must be lowercase and have no tags
+	 */
+	Swap[] getSwaps(boolean shift, String option)
+	{
+		final Swap[] s = (shift ? shiftSwaps : swaps).get(option);
+		return s != null ? s : NO_SWAPS;
+	}
+
+	Integer getItemSwap(boolean shift, int itemId)
+	{
+		return (shift ? shiftItems : items).get(itemId);
+	}
+
+	Integer getWornItemSwap(boolean shift, int itemId)
+	{
+		return (shift ? shiftWornItems : wornItems).get(itemId);
+	}
+
+	Integer getObjectSwap(boolean shift, int objectId)
+	{
+		return (shift ? shiftObjects : objects).get(objectId);
+	}
+
+	Integer getNpcSwap(boolean shift, int npcId)
+	{
+		return (shift ? shiftNpcs : npcs).get(npcId);
+	}
+
+	Integer getUiSwap(boolean shift, int componentId, int itemId)
+	{
+		return (shift ? shiftUi : ui).get(uiKey(componentId, itemId));
+	}
+}
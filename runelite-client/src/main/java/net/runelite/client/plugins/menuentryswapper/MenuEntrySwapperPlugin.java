@@ -37,9 +37,10 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.inject.Provides;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -72,6 +73,8 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import net.runelite.client.game.NpcUtil;
@@ -93,16 +96,16 @@ import net.runelite.client.util.Text;
 @Slf4j
 public class MenuEntrySwapperPlugin extends Plugin
 {
-	private static final String SHIFTCLICK_CONFIG_GROUP = "shiftclick";
-	private static final String ITEM_KEY_PREFIX = "item_";
-	private static final String OBJECT_KEY_PREFIX = "object_";
-	private static final String OBJECT_SHIFT_KEY_PREFIX = "object_shift_";
-	private static final String NPC_KEY_PREFIX = "npc_";
-	private static final String NPC_SHIFT_KEY_PREFIX = "npc_shift_";
-	private static final String WORN_ITEM_KEY_PREFIX = "wornitem_";
-	private static final String WORN_ITEM_SHIFT_KEY_PREFIX = "wornitem_shift_";
-	private static final String UI_KEY_PREFIX = "ui_";
-	private static final String UI_SHIFT_KEY_PREFIX = "ui_shift_";
+	static final String SHIFTCLICK_CONFIG_GROUP = "shiftclick";
+	static final String ITEM_KEY_PREFIX = "item_";
+	static final String OBJECT_KEY_PREFIX = "object_";
+	static final String OBJECT_SHIFT_KEY_PREFIX = "object_shift_";
+	static final String NPC_KEY_PREFIX = "npc_";
+	static final String NPC_SHIFT_KEY_PREFIX = "npc_shift_";
+	static final String WORN_ITEM_KEY_PREFIX = "wornitem_";
+	static final String WORN_ITEM_SHIFT_KEY_PREFIX = "wornitem_shift_";
+	static final String UI_KEY_PREFIX = "ui_";
+	static final String UI_SHIFT_KEY_PREFIX = "ui_shift_";
 
 	private static final List<MenuAction> NPC_MENU_TYPES = ImmutableList.of(
 		MenuAction.NPC_FIRST_OPTION,
@@ -212,6 +215,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private Menu cacheOptionMenu;
 	private boolean lastShift, curShift;
 
+	// bumped on each config change to invalidate compiledSwaps
+	private volatile int configGeneration;
+	private CompiledSwaps compiledSwaps;
+	// menu option and target text with tags removed and lowercased
+	private final Map<String, String> normalizedText = new HashMap<>();
+
 	@Provides
 	MenuEntrySwapperConfig provideConfig(ConfigManager configManager)
 	{
@@ -229,6 +238,55 @@ public class MenuEntrySwapperPlugin extends Plugin
 	public void shutDown()
 	{
 		swaps.clear();
+		compiledSwaps = null;
+		normalizedText.clear();
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (event.getGroup().equals(MenuEntrySwapperConfig.GROUP) || event.getGroup().equals(SHIFTCLICK_CONFIG_GROUP))
+		{
+			++configGeneration;
+		}
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged event)
+	{
+		++configGeneration;
+	}
+
+	private CompiledSwaps getCompiledSwaps()
+	{
+		final int generation = configGeneration;
+		CompiledSwaps compiled = compiledSwaps;
+		if (compiled == null || compiled.generation != generation)
+		{
+			compiledSwaps = compiled = new CompiledSwaps(generation, config, configManager, swaps);
+			log.debug("Compiled swaps for config generation {}", generation);
+		}
+		return compiled;
+	}
+
+	/**
+	 * Removes tags from and lowercases menu text, caching the result as menus are rebuilt every frame
+	 * with mostly the same text.
+	 */
+	private String normalize(String text)
+	{
+		String normalized = normalizedText.get(text);
+		if (normalized == null)
+		{
+			if (normalizedText.size() >= 1024)
+			{
+				normalizedText.clear();
+			}
+
+			normalized = Text.removeTags(text).toLowerCase();
+			normalizedText.put(text, normalized);
+		}
+		return normalized;
 	}
 
 	@VisibleForTesting
@@ -357,17 +415,17 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		swap("pick", "pick-lots", config::swapPick);
 
-		swap("view offer", "abort offer", () -> shiftModifier() && config.swapGEAbort());
+		swap("view offer", "abort offer", shift -> shift && config.swapGEAbort());
 
-		swap("value", "buy 1", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_1);
-		swap("value", "buy 5", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_5);
-		swap("value", "buy 10", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_10);
-		swap("value", "buy 50", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_50);
+		swap("value", "buy 1", shift -> shift && config.shopBuy() == BuyMode.BUY_1);
+		swap("value", "buy 5", shift -> shift && config.shopBuy() == BuyMode.BUY_5);
+		swap("value", "buy 10", shift -> shift && config.shopBuy() == BuyMode.BUY_10);
+		swap("value", "buy 50", shift -> shift && config.shopBuy() == BuyMode.BUY_50);
 
-		swap("value", "sell 1", () -> shiftModifier() && config.shopSell() == SellMode.SELL_1);
-		swap("value", "sell 5", () -> shiftModifier() && config.shopSell() == SellMode.SELL_5);
-		swap("value", "sell 10", () -> shiftModifier() && config.shopSell() == SellMode.SELL_10);
-		swap("value", "sell 50", () -> shiftModifier() && config.shopSell() == SellMode.SELL_50);
+		swap("value", "sell 1", shift -> shift && config.shopSell() == SellMode.SELL_1);
+		swap("value", "sell 5", shift -> shift && config.shopSell() == SellMode.SELL_5);
+		swap("value", "sell 10", shift -> shift && config.shopSell() == SellMode.SELL_10);
+		swap("value", "sell 50", shift -> shift && config.shopSell() == SellMode.SELL_50);
 
 		swap("wear", "tele to poh", config::swapTeleToPoh);
 
@@ -411,8 +469,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		swap("tan 1", "tan all", config::swapTan);
 
-		swap("climb", "climb-up", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_UP);
-		swap("climb", "climb-down", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_DOWN);
+		swap("climb", "climb-up", shift -> (shift ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_UP);
+		swap("climb", "climb-down", shift -> (shift ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_DOWN);
 	}
 
 	private void removeOldSwaps()
@@ -451,6 +509,11 @@ public class MenuEntrySwapperPlugin extends Plugin
 		swap(option, alwaysTrue(), swappedOption, enabled);
 	}
 
+	private void swap(String option, String swappedOption, Predicate<Boolean> enabled)
+	{
+		swaps.put(option, new Swap(alwaysTrue(), alwaysTrue(), swappedOption, enabled, true));
+	}
+
 	private void swap(String option, String target, String swappedOption, Supplier<Boolean> enabled)
 	{
 		swap(option, equalTo(target), swappedOption, enabled);
@@ -458,12 +521,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private void swap(String option, Predicate<String> targetPredicate, String swappedOption, Supplier<Boolean> enabled)
 	{
-		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, enabled, true));
+		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, shift -> enabled.get(), true));
 	}
 
 	private void swapContains(String option, Predicate<String> targetPredicate, String swappedOption, Supplier<Boolean> enabled)
 	{
-		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, enabled, false));
+		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, shift -> enabled.get(), false));
 	}
 
 	private Integer getItemSwapConfig(boolean shift, int itemId)
@@ -1387,7 +1450,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 		};
 	}
 
-	private boolean swapBank(Menu menu, MenuEntry menuEntry, MenuAction type)
+	private boolean swapBank(CompiledSwaps compiled, Menu menu, MenuEntry menuEntry, MenuAction type)
 	{
 		if (type != MenuAction.CC_OP && type != MenuAction.CC_OP_LOW_PRIORITY)
 		{
@@ -1401,12 +1464,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// Swap to shift-click deposit behavior
 		// Deposit- op 1 is the current withdraw amount 1/5/10/x for deposit box interface and chambers of xeric storage unit.
 		// Deposit- op 2 is the current withdraw amount 1/5/10/x for bank interface
-		if (shiftModifier() && config.bankDepositShiftClick() != ShiftDepositMode.OFF
+		if (shiftModifier() && compiled.bankDepositShiftClick != ShiftDepositMode.OFF
 			&& type == MenuAction.CC_OP
 			&& menuEntry.getIdentifier() == (isGroupStoragePlayerInventory || isChambersOfXericStorageUnitPlayerInventory ? 1 : 2)
 			&& (menuEntry.getOption().startsWith("Deposit-") || menuEntry.getOption().startsWith("Store") || menuEntry.getOption().startsWith("Donate")))
 		{
-			ShiftDepositMode shiftDepositMode = config.bankDepositShiftClick();
+			ShiftDepositMode shiftDepositMode = compiled.bankDepositShiftClick;
 			final int opId = isDepositBoxPlayerInventory ? shiftDepositMode.getIdentifierDepositBox()
 				: isChambersOfXericStorageUnitPlayerInventory ? shiftDepositMode.getIdentifierChambersStorageUnit()
 				: isGroupStoragePlayerInventory ? shiftDepositMode.getIdentifierGroupStorage()
@@ -1418,11 +1481,11 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		// Swap to shift-click withdraw behavior
 		// Deposit- op 1 is the current withdraw amount 1/5/10/x
-		if (shiftModifier() && config.bankWithdrawShiftClick() != ShiftWithdrawMode.OFF
+		if (shiftModifier() && compiled.bankWithdrawShiftClick != ShiftWithdrawMode.OFF
 			&& type == MenuAction.CC_OP && menuEntry.getIdentifier() == 1
 			&& menuEntry.getOption().startsWith("Withdraw"))
 		{
-			ShiftWithdrawMode shiftWithdrawMode = config.bankWithdrawShiftClick();
+			ShiftWithdrawMode shiftWithdrawMode = compiled.bankWithdrawShiftClick;
 			final MenuAction action;
 			final int opId;
 			if (widgetGroupId == InterfaceID.RAIDS_STORAGE_PRIVATE || widgetGroupId == InterfaceID.RAIDS_STORAGE_SHARED)
@@ -1464,7 +1527,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 	}
 
-	private void swapMenuEntry(MenuEntry parent, Menu menu, MenuEntry[] menuEntries, int index, MenuEntry menuEntry)
+	private void swapMenuEntry(CompiledSwaps compiled, MenuEntry parent, Menu menu, MenuEntry[] menuEntries, int index, MenuEntry menuEntry)
 	{
 		Menu sub = menuEntry.getSubMenu();
 		if (sub != null)
@@ -1473,21 +1536,21 @@ public class MenuEntrySwapperPlugin extends Plugin
 			MenuEntry[] subEntries = sub.getMenuEntries();
 			for (MenuEntry subEntry : subEntries)
 			{
-				swapMenuEntry(menuEntry, sub, subEntries, subidx++, subEntry);
+				swapMenuEntry(compiled, menuEntry, sub, subEntries, subidx++, subEntry);
 			}
 		}
 
 		final int eventId = menuEntry.getIdentifier();
 		final MenuAction menuAction = menuEntry.getType();
-		final String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
+		final String option = normalize(menuEntry.getOption());
+		final String target = normalize(menuEntry.getTarget());
 
 		final Widget w = parent != null ? parent.getWidget() : menuEntry.getWidget();
 		// Custom item swap
 		if (w != null && WidgetUtil.componentToInterface(w.getId()) == InterfaceID.INVENTORY
-			&& (lastShift ? config.shiftClickCustomization() : config.leftClickCustomization()))
+			&& (lastShift ? compiled.shiftClickCustomization : compiled.leftClickCustomization))
 		{
-			Integer swapIndex = getItemSwapConfig(lastShift, w.getItemId());
+			Integer swapIndex = compiled.getItemSwap(lastShift, ItemVariationMapping.map(w.getItemId()));
 			if (swapIndex != null)
 			{
 				if (swapIndex == -1)
@@ -1513,7 +1576,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			Widget child = w.getChild(1);
 			if (child != null && child.getItemId() > -1)
 			{
-				final Integer wornItemSwapConfig = getWornItemSwapConfig(shiftModifier(), child.getItemId());
+				final Integer wornItemSwapConfig = compiled.getWornItemSwap(shiftModifier(), ItemVariationMapping.map(child.getItemId()));
 				if (wornItemSwapConfig != null)
 				{
 					if (wornItemSwapConfig == menuEntry.getIdentifier())
@@ -1542,7 +1605,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 				objectId = objectComposition.getId();
 			}
 
-			Integer customOption = getObjectSwapConfig(shiftModifier(), objectId);
+			Integer customOption = compiled.getObjectSwap(shiftModifier(), objectId);
 			if (customOption != null && customOption >= 0)
 			{
 				if (customOption == objMenuIdx)
@@ -1564,7 +1627,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			final NPCComposition composition = npc.getTransformedComposition();
 			assert composition != null;
 
-			Integer customOption = getNpcSwapConfig(shiftModifier(), composition.getId());
+			Integer customOption = compiled.getNpcSwap(shiftModifier(), composition.getId());
 			if (customOption != null && customOption >= 0)
 			{
 				MenuAction swapAction = NPC_MENU_TYPES.get(customOption);
@@ -1596,7 +1659,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			{
 				final int componentId = w.getId(); // on dynamic components, this is the parent layer id
 				final int itemId = w.getIndex() == -1 ? -1 : ItemVariationMapping.map(w.getItemId());
-				final Integer op = getMigratedUiSwapConfig(shiftModifier(), componentId, itemId);
+				final Integer op = getUiSwap(compiled, shiftModifier(), componentId, itemId);
 				if (op != null && op == menuEntry.getIdentifier())
 				{
 					swap(menu, menuEntries, index, menuEntries.length - 1);
@@ -1605,7 +1668,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			}
 		}
 
-		if (swapBank(menu, menuEntry, menuAction))
+		if (swapBank(compiled, menu, menuEntry, menuAction))
 		{
 			return;
 		}
@@ -1621,10 +1684,9 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 
 		// Built-in swaps
-		Collection<Swap> swaps = this.swaps.get(option);
-		for (Swap swap : swaps)
+		for (Swap swap : compiled.getSwaps(shiftModifier(), option))
 		{
-			if (swap.getTargetPredicate().test(target) && swap.getEnabled().get())
+			if (swap.getTargetPredicate().test(target))
 			{
 				if (swap(menu, menuEntries, swap.getSwappedOption(), target, index, swap.isStrict()))
 				{
@@ -1645,6 +1707,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 			return;
 		}
 
+		final CompiledSwaps compiled = getCompiledSwaps();
+
 		// Walk here swaps. These work via deprioritizing swapped menus instead of prioritizing the Walk here
 		// option above swapped menus. This is because a Walk here swap doesn't mean Walk here should always
 		// be at the top, it should only be above the individual entries being swapped.
@@ -1671,8 +1735,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 				}
 
 				final boolean shift = shiftModifier();
-				Integer customOption = getObjectSwapConfig(shift, objectId);
-				if ((customOption == null && shift && config.objectShiftClickWalkHere())
+				Integer customOption = compiled.getObjectSwap(shift, objectId);
+				if ((customOption == null && shift && compiled.objectShiftClickWalkHere)
 					|| (customOption != null && customOption == -1))
 				{
 					menuEntry.setDeprioritized(true);
@@ -1686,8 +1750,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 				assert composition != null;
 
 				boolean shift = shiftModifier();
-				Integer customOption = getNpcSwapConfig(shift, composition.getId());
-				if ((customOption == null && shift && config.npcShiftClickWalkHere())
+				Integer customOption = compiled.getNpcSwap(shift, composition.getId());
+				if ((customOption == null && shift && compiled.npcShiftClickWalkHere)
 					|| (customOption != null && customOption == -1))
 				{
 					menuEntry.setDeprioritized(true);
@@ -1697,7 +1761,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 				|| type == MenuAction.GROUND_ITEM_THIRD_OPTION || type == MenuAction.GROUND_ITEM_FOURTH_OPTION
 				|| type == MenuAction.GROUND_ITEM_FIFTH_OPTION)
 			{
-				if (shiftModifier() && config.groundItemShiftClickWalkHere())
+				if (shiftModifier() && compiled.groundItemShiftClickWalkHere)
 				{
 					menuEntry.setDeprioritized(true);
 				}
@@ -1718,14 +1782,16 @@ public class MenuEntrySwapperPlugin extends Plugin
 		Menu root = client.getMenu();
 		MenuEntry[] menuEntries = root.getMenuEntries();
 
+		final CompiledSwaps compiled = getCompiledSwaps();
+
 		// Perform swaps
 		int idx = 0;
 		for (MenuEntry entry : menuEntries)
 		{
-			swapMenuEntry(null, root, menuEntries, idx++, entry);
+			swapMenuEntry(compiled, null, root, menuEntries, idx++, entry);
 		}
 
-		if (config.removeDeadNpcMenus())
+		if (compiled.removeDeadNpcMenus)
 		{
 			removeDeadNpcs();
 		}
@@ -1777,7 +1843,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			{
 				int idx = indexes.get(i);
 				MenuEntry entry = entries[idx];
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryTarget = normalize(entry.getTarget());
 
 				// Limit to the last index which is prior to the current entry
 				if (idx < limit && entryTarget.equals(target))
@@ -1792,8 +1858,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 			for (int i = limit - 1; i >= 0; i--)
 			{
 				MenuEntry entry = entries[i];
-				String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryOption = normalize(entry.getOption());
+				String entryTarget = normalize(entry.getTarget());
 
 				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
 				{
@@ -1815,7 +1881,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			cacheOptionIndexes.clear();
 			for (MenuEntry entry : menu.getMenuEntries())
 			{
-				String opt = Text.removeTags(entry.getOption()).toLowerCase();
+				String opt = normalize(entry.getOption());
 				cacheOptionIndexes.put(opt, idx++);
 			}
 			log.trace("[{}] Rebuilt option index cache with {} entries", client.getGameCycle(), idx);
@@ -1852,8 +1918,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// Update optionIndexes
 		if (cacheOptionMenu == menu)
 		{
-			String option1 = Text.removeTags(entry1.getOption()).toLowerCase(),
-				option2 = Text.removeTags(entry2.getOption()).toLowerCase();
+			String option1 = normalize(entry1.getOption()),
+				option2 = normalize(entry2.getOption());
 
 			List<Integer> list1 = cacheOptionIndexes.get(option1),
 				list2 = cacheOptionIndexes.get(option2);
@@ -1975,6 +2041,17 @@ public class MenuEntrySwapperPlugin extends Plugin
 		return -1; // use
 	}
 
+	private Integer getUiSwap(CompiledSwaps compiled, boolean shift, int componentId, int itemId)
+	{
+		if (componentId == InterfaceID.Bankmain.ITEMS
+			&& compiled.getUiSwap(shift, InterfaceID.Bankmain.SCROLLBAR, itemId) != null)
+		{
+			// the migration updates the config, which recompiles the swaps
+			return getMigratedUiSwapConfig(shift, componentId, itemId);
+		}
+		return compiled.getUiSwap(shift, componentId, itemId);
+	}
+
 	private Integer getMigratedUiSwapConfig(boolean shift, int componentId, int itemId)
 	{
 		Integer swap = getUiSwapConfig(shift, componentId, itemId);
@@ -77,7 +77,7 @@ import net.runelite.client.ui.components.colorpicker.RuneliteColorPicker;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.Text;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardSet;
 
 @PluginDescriptor(
 	name = "NPC Indicators",
@@ -160,6 +160,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	 * Highlight strings from the configuration
 	 */
 	private List<String> highlights = new ArrayList<>();
+	private WildcardSet highlightPatterns = WildcardSet.of(Collections.emptyList());
 
 	/**
 	 * NPC ids marked with the Tag option
@@ -300,9 +301,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			final String npcName = npc.getName();
 			final boolean nameMatch = highlights.stream().anyMatch(npcName::equalsIgnoreCase);
 			final boolean idMatch = npcTags.contains(npc.getIndex());
-			final boolean wildcardMatch = highlights.stream()
-				.filter(highlight -> !highlight.equalsIgnoreCase(npcName))
-				.anyMatch(highlight -> WildcardMatcher.matches(highlight, npcName));
+			final boolean wildcardMatch = highlightPatterns.matchesWildcard(npcName);
 			int idx = -1;
 
 			client.createMenuEntry(idx--)
@@ -717,6 +716,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	void rebuild()
 	{
 		highlights = getHighlights();
+		highlightPatterns = WildcardSet.of(highlights);
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -771,15 +771,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightPatterns.matches(npcName);
 	}
 
 	private void validateSpawnedNpcs()
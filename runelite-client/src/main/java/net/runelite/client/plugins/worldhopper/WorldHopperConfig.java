@@ -33,6 +33,8 @@ import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.Keybind;
+import net.runelite.client.config.Range;
+import net.runelite.client.config.Units;
 
 @ConfigGroup(WorldHopperConfig.GROUP)
 public interface WorldHopperConfig extends Config
@@ -159,4 +161,35 @@ public interface WorldHopperConfig extends Config
 	{
 		return false;
 	}
+
+	@ConfigItem(
+		keyName = "pingConcurrency",
+		name = "Concurrent pings",
+		description = "The number of worlds pinged at the same time when refreshing world pings.",
+		position = 12
+	)
+	@Range(
+		min = 1,
+		max = 64
+	)
+	default int pingConcurrency()
+	{
+		return 16;
+	}
+
+	@ConfigItem(
+		keyName = "pingTimeout",
+		name = "Ping timeout",
+		description = "How long to wait for a world to respond to a ping before giving up.",
+		position = 13
+	)
+	@Range(
+		min = 100,
+		max = 5000
+	)
+	@Units(Units.MILLISECONDS)
+	default int pingTimeout()
+	{
+		return 2000;
+	}
 }
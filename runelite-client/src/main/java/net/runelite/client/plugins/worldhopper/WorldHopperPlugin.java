@@ -32,6 +32,7 @@ import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.io.FileDescriptor;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -107,6 +108,7 @@ import net.runelite.http.api.worlds.WorldType;
 public class WorldHopperPlugin extends Plugin
 {
 	private static final int REFRESH_THROTTLE = 60_000; // ms
+	private static final int PING_BATCH_INTERVAL = 250; // ms
 	private static final int MAX_PLAYER_COUNT = 1950;
 
 	private static final int DISPLAY_SWITCHER_MAX_ATTEMPTS = 3;
@@ -166,7 +168,7 @@ public class WorldHopperPlugin extends Plugin
 	@Getter(AccessLevel.PACKAGE)
 	private int currentPing;
 
-	private final Map<Integer, Integer> storedPings = new HashMap<>();
+	private volatile WorldPinger worldPinger;
 
 	final RetransmitCalculator retransmitCalculator = new RetransmitCalculator();
 
@@ -224,13 +226,14 @@ public class WorldHopperPlugin extends Plugin
 
 		// The plugin has its own executor for pings, as it blocks for a long time
 		hopperExecutorService = new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor());
+		worldPinger = createWorldPinger();
 		// populate initial world list
 		hopperExecutorService.execute(this::updateList);
 		// Run the first-run ping
 		hopperExecutorService.execute(this::pingInitialWorlds);
 
 		// Give some initial delay - this won't run until after pingInitialWorlds finishes anyway
-		pingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingNextWorld, 15, 3, TimeUnit.SECONDS);
+		pingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingNextWorlds, 15, 3, TimeUnit.SECONDS);
 		currPingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingCurrentWorld, 15, 1, TimeUnit.SECONDS);
 	}
 
@@ -252,6 +255,7 @@ public class WorldHopperPlugin extends Plugin
 
 		hopperExecutorService.shutdown();
 		hopperExecutorService = null;
+		worldPinger.shutdown();
 	}
 
 	@Subscribe
@@ -293,6 +297,17 @@ public class WorldHopperPlugin extends Plugin
 					panel.setWorldTypeFilters(config.worldTypeFilter());
 					updateList();
 					break;
+				case "pingConcurrency":
+				case "pingTimeout":
+					// replaced on the hopper executor so that it is not replaced while it is pinging
+					hopperExecutorService.execute(() ->
+					{
+						WorldPinger old = worldPinger;
+						worldPinger = createWorldPinger();
+						worldPinger.copyPings(old);
+						old.shutdown();
+					});
+					break;
 			}
 		}
 	}
@@ -832,8 +847,13 @@ public class WorldHopperPlugin extends Plugin
 		return null;
 	}
 
+	private WorldPinger createWorldPinger()
+	{
+		return new WorldPinger((world, timeout) -> Ping.ping(world, true, timeout), config.pingConcurrency(), config.pingTimeout());
+	}
+
 	/**
-	 * Ping all worlds. This takes a long time and is only run on first run.
+	 * Ping all worlds. This is only run on first run.
 	 */
 	private void pingInitialWorlds()
 	{
@@ -845,10 +865,14 @@ public class WorldHopperPlugin extends Plugin
 
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		for (World world : worldResult.getWorlds())
+		try
+		{
+			worldPinger.pingAll(worldResult.getWorlds(), PING_BATCH_INTERVAL, pings -> SwingUtilities.invokeLater(() -> panel.updatePings(pings)));
+		}
+		catch (InterruptedException ex)
 		{
-			int ping = ping(world, false);
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
+			Thread.currentThread().interrupt();
+			return;
 		}
 
 		stopwatch.stop();
@@ -857,12 +881,12 @@ public class WorldHopperPlugin extends Plugin
 	}
 
 	/**
-	 * Ping the next world
+	 * Ping the next batch of worlds
 	 */
-	private void pingNextWorld()
+	private void pingNextWorlds()
 	{
 		WorldResult worldResult = worldService.getWorlds();
-		if (worldResult == null || !config.showSidebar() || !config.ping())
+		if (worldResult == null || !config.showSidebar() || !config.ping() || !panel.isActive())
 		{
 			return;
 		}
@@ -873,27 +897,36 @@ public class WorldHopperPlugin extends Plugin
 			return;
 		}
 
-		if (currentWorld >= worlds.size())
-		{
-			// Wrap back around
-			currentWorld = 0;
-		}
-
-		World world = worlds.get(currentWorld++);
-
 		// If we are displaying the ping overlay, there is a separate scheduled task for the current world
 		boolean displayPing = config.displayPing() && client.getGameState() == GameState.LOGGED_IN;
-		if (displayPing && client.getWorld() == world.getId())
+		int batchSize = Math.min(config.pingConcurrency(), worlds.size());
+		List<World> batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; ++i)
 		{
-			return;
-		}
+			if (currentWorld >= worlds.size())
+			{
+				// Wrap back around
+				currentWorld = 0;
+			}
 
-		int ping = ping(world, false);
-		log.trace("Ping for world {} is: {}", world.getId(), ping);
+			World world = worlds.get(currentWorld++);
+			if (!displayPing || client.getWorld() != world.getId())
+			{
+				batch.add(world);
+			}
+		}
 
-		if (panel.isActive())
+		try
 		{
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
+			worldPinger.pingAll(batch, PING_BATCH_INTERVAL, pings ->
+			{
+				log.trace("Pings for worlds: {}", pings);
+				SwingUtilities.invokeLater(() -> panel.updatePings(pings));
+			});
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
 		}
 	}
 
@@ -916,7 +949,7 @@ public class WorldHopperPlugin extends Plugin
 			return;
 		}
 
-		int ping = ping(currentWorld, true);
+		int ping = Ping.ping(currentWorld, false, config.pingTimeout());
 		log.trace("Ping for current world is: {}", ping);
 
 		FileDescriptor fd = client.getSocketFD();
@@ -934,9 +967,9 @@ public class WorldHopperPlugin extends Plugin
 		if (ping < 0)
 		{
 			ping = rtt; // use rtt for ping if icmp is blocked
-			storedPings.put(currentWorld.getId(), rtt);
 		}
 
+		final WorldPinger.WorldPing worldPing = worldPinger.record(currentWorld.getId(), ping);
 		if (ping < 0)
 		{
 			return;
@@ -946,7 +979,7 @@ public class WorldHopperPlugin extends Plugin
 
 		if (panel.isActive())
 		{
-			SwingUtilities.invokeLater(() -> panel.updatePing(currentWorld.getId(), currentPing));
+			SwingUtilities.invokeLater(() -> panel.updatePing(currentWorld.getId(), worldPing.getPing()));
 		}
 	}
 
@@ -957,13 +990,7 @@ public class WorldHopperPlugin extends Plugin
 			return null;
 		}
 
-		return storedPings.get(world.getId());
-	}
-
-	private int ping(World world, boolean isCurrentWorld)
-	{
-		int ping = Ping.ping(world, !isCurrentWorld);
-		storedPings.put(world.getId(), ping);
-		return ping;
+		WorldPinger.WorldPing worldPing = worldPinger.getPing(world.getId());
+		return worldPing != null ? worldPing.getPing() : null;
 	}
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.worlds.World;
+
+/**
+ * Pings worlds in parallel on a fixed number of threads, and keeps a smoothed ping and jitter for each world.
+ */
+@Slf4j
+class WorldPinger
+{
+	// weight of a new ping in the smoothed ping
+	private static final double PING_GAIN = 0.25;
+	// weight of a new ping difference in the jitter, the same as RTP (RFC 3550)
+	private static final double JITTER_GAIN = 1 / 16.0;
+	// consecutive failed pings before a world is considered unreachable, so that an isolated lost ping does not
+	// discard the smoothed ping and jitter
+	private static final int MAX_LOSSES = 3;
+
+	@FunctionalInterface
+	interface Pinger
+	{
+		/**
+		 * @return the ping in milliseconds, or -1 if the world could not be pinged
+		 */
+		int ping(World world, int timeout);
+	}
+
+	@Value
+	static class WorldPing
+	{
+		static final WorldPing UNREACHABLE = new WorldPing(-1, 0, -1, 0);
+
+		/**
+		 * Exponentially weighted moving average of the ping, in milliseconds
+		 */
+		double average;
+		/**
+		 * Smoothed difference between consecutive pings, in milliseconds
+		 */
+		double jitter;
+		/**
+		 * The most recent successful ping, in milliseconds
+		 */
+		int last;
+		/**
+		 * Number of consecutive failed pings since the most recent successful ping
+		 */
+		int losses;
+
+		int getPing()
+		{
+			return last < 0 ? -1 : (int) Math.round(average);
+		}
+
+		WorldPing update(int ping)
+		{
+			if (ping < 0)
+			{
+				if (last < 0 || losses + 1 >= MAX_LOSSES)
+				{
+					return UNREACHABLE;
+				}
+				return new WorldPing(average, jitter, last, losses + 1);
+			}
+
+			if (last < 0)
+			{
+				return new WorldPing(ping, 0, ping, 0);
+			}
+
+			return new WorldPing(
+				average + (ping - average) * PING_GAIN,
+				jitter + (Math.abs(ping - last) - jitter) * JITTER_GAIN,
+				ping,
+				0);
+		}
+	}
+
+	private final Pinger pinger;
+	private final int timeout;
+	private final ExecutorService executor;
+	private final Map<Integer, WorldPing> pings = new ConcurrentHashMap<>();
+
+	/**
+	 * @param pinger      the function used to ping a single world
+	 * @param concurrency the maximum number of pings in flight
+	 * @param timeout     the timeout of a single ping, in milliseconds
+	 */
+	WorldPinger(Pinger pinger, int concurrency, int timeout)
+	{
+		this.pinger = pinger;
+		this.timeout = timeout;
+
+		final AtomicInteger threadNumber = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(concurrency, r ->
+		{
+			final Thread thread = new Thread(r, "WorldPinger-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Copy the pings of another pinger, so that they are not lost when the pinger is replaced
+	 */
+	void copyPings(WorldPinger other)
+	{
+		pings.putAll(other.pings);
+	}
+
+	void shutdown()
+	{
+		// cancel the pings which have not started, so that pingAll() does not wait for them
+		for (Runnable runnable : executor.shutdownNow())
+		{
+			if (runnable instanceof Future)
+			{
+				((Future<?>) runnable).cancel(false);
+			}
+		}
+	}
+
+	@Nullable
+	WorldPing getPing(int world)
+	{
+		return pings.get(world);
+	}
+
+	/**
+	 * Record a ping for a world which was measured elsewhere
+	 *
+	 * @return the updated ping of the world
+	 */
+	WorldPing record(int world, int ping)
+	{
+		return pings.merge(world, WorldPing.UNREACHABLE.update(ping), (old, n) -> old.update(ping));
+	}
+
+	/**
+	 * Ping worlds in parallel, blocking until every world has been pinged. The updated pings are passed to
+	 * {@code onPings} in batches, from the calling thread, at most once every {@code batchInterval} milliseconds,
+	 * so that the consumer is not flooded with an update per world.
+	 *
+	 * @param worlds        the worlds to ping
+	 * @param batchInterval the minimum time between batches, in milliseconds
+	 * @param onPings       the consumer of world id to updated ping batches
+	 * @throws InterruptedException if the calling thread is interrupted. Outstanding pings are cancelled.
+	 */
+	void pingAll(Collection<World> worlds, long batchInterval, Consumer<Map<Integer, WorldPing>> onPings) throws InterruptedException
+	{
+		// pings are queued once done, including when they are cancelled before starting
+		final BlockingQueue<Future<Map.Entry<Integer, WorldPing>>> completed = new LinkedBlockingQueue<>();
+		final List<Future<Map.Entry<Integer, WorldPing>>> futures = new ArrayList<>(worlds.size());
+		for (World world : worlds)
+		{
+			final FutureTask<Map.Entry<Integer, WorldPing>> task = new FutureTask<>(() -> Map.entry(world.getId(), record(world.getId(), ping(world))))
+			{
+				@Override
+				protected void done()
+				{
+					completed.add(this);
+				}
+			};
+			futures.add(task);
+			executor.execute(task);
+		}
+
+		try
+		{
+			Map<Integer, WorldPing> batch = new HashMap<>();
+			final long batchNanos = TimeUnit.MILLISECONDS.toNanos(batchInterval);
+			long flushAt = System.nanoTime() + batchNanos;
+			for (int remaining = futures.size(); remaining > 0; )
+			{
+				final Future<Map.Entry<Integer, WorldPing>> future = completed.poll(flushAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+				if (future != null)
+				{
+					--remaining;
+					try
+					{
+						final Map.Entry<Integer, WorldPing> result = future.get();
+						batch.put(result.getKey(), result.getValue());
+					}
+					catch (CancellationException ex)
+					{
+						// the pinger was shut down
+					}
+					catch (ExecutionException ex)
+					{
+						log.warn("error pinging world", ex);
+					}
+				}
+
+				final long now = System.nanoTime();
+				if (now - flushAt >= 0 || remaining == 0)
+				{
+					if (!batch.isEmpty())
+					{
+						onPings.accept(batch);
+						batch = new HashMap<>();
+					}
+					flushAt = now + batchNanos;
+				}
+			}
+		}
+		finally
+		{
+			for (Future<?> future : futures)
+			{
+				future.cancel(true);
+			}
+		}
+	}
+
+	private int ping(World world)
+	{
+		try
+		{
+			return pinger.ping(world, timeout);
+		}
+		catch (RuntimeException ex)
+		{
+			log.warn("error pinging world {}", world.getId(), ex);
+			return -1;
+		}
+	}
+}
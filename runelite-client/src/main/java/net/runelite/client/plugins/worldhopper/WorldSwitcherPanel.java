@@ -160,6 +160,25 @@ class WorldSwitcherPanel extends PluginPanel
 		}
 	}
 
+	void updatePings(Map<Integer, WorldPinger.WorldPing> pings)
+	{
+		for (WorldTableRow worldTableRow : rows)
+		{
+			WorldPinger.WorldPing ping = pings.get(worldTableRow.getWorld().getId());
+			if (ping != null)
+			{
+				worldTableRow.setPing(ping.getPing());
+				worldTableRow.setJitter(ping.getJitter());
+			}
+		}
+
+		// If the panel is sorted by ping, re-sort it once for the whole batch
+		if (orderIndex == WorldOrder.PING)
+		{
+			updateList();
+		}
+	}
+
 	void hidePing()
 	{
 		for (WorldTableRow worldTableRow : rows)
@@ -106,6 +106,7 @@ class WorldTableRow extends JPanel
 	private JLabel pingField;
 
 	private int ping;
+	private double jitter;
 
 	private Color lastBackground;
 
@@ -238,14 +239,23 @@ class WorldTableRow extends JPanel
 		pingField.setText(ping <= 0 ? "-" : Integer.toString(ping));
 	}
 
+	void setJitter(double jitter)
+	{
+		this.jitter = jitter;
+		pingField.setToolTipText(ping <= 0 || jitter <= 0 ? null : String.format("Jitter: %.1f ms", jitter));
+	}
+
 	void hidePing()
 	{
 		pingField.setText("-");
+		pingField.setToolTipText(null);
 	}
 
 	void showPing()
 	{
-		setPing(ping); // to update pingField
+		// to update pingField
+		setPing(ping);
+		setJitter(jitter);
 	}
 
 	int getPing()
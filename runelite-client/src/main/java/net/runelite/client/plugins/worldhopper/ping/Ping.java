@@ -40,6 +40,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.OSType;
@@ -53,7 +54,7 @@ public class Ping
 	private static final int PORT = 43594;
 	private static final int MAX_IPV4_HEADER_SIZE = 60;
 
-	private static short seq;
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
 
 	@Deprecated
 	public static int ping(World world)
@@ -62,6 +63,19 @@ public class Ping
 	}
 
 	public static int ping(World world, boolean useTcpPing)
+	{
+		return ping(world, useTcpPing, TIMEOUT);
+	}
+
+	/**
+	 * Ping a world. This is safe to call from multiple threads concurrently.
+	 *
+	 * @param world      the world to ping
+	 * @param useTcpPing whether to fall back to timing a TCP connect if an ICMP ping fails
+	 * @param timeout    timeout for each of the ICMP and TCP pings, in milliseconds
+	 * @return the ping in milliseconds, or -1 if the world could not be pinged
+	 */
+	public static int ping(World world, boolean useTcpPing, int timeout)
 	{
 		InetAddress inetAddress;
 		try
@@ -85,10 +99,10 @@ public class Ping
 			switch (OSType.getOSType())
 			{
 				case Windows:
-					int p = windowsPing(inetAddress);
+					int p = windowsPing(inetAddress, timeout);
 					if (p == -1 && useTcpPing)
 					{
-						p = tcpPing(inetAddress);
+						p = tcpPing(inetAddress, timeout);
 					}
 					return p;
 				case MacOS:
@@ -96,7 +110,7 @@ public class Ping
 					p = -1;
 					try
 					{
-						p = icmpPing(inetAddress, OSType.getOSType() == OSType.MacOS);
+						p = icmpPing(inetAddress, OSType.getOSType() == OSType.MacOS, timeout);
 					}
 					catch (IOException ex)
 					{
@@ -104,11 +118,11 @@ public class Ping
 					}
 					if (p == -1 && useTcpPing)
 					{
-						return tcpPing(inetAddress);
+						return tcpPing(inetAddress, timeout);
 					}
 					return p;
 				default:
-					return tcpPing(inetAddress);
+					return tcpPing(inetAddress, timeout);
 			}
 		}
 		catch (IOException ex)
@@ -118,7 +132,7 @@ public class Ping
 		}
 	}
 
-	private static int windowsPing(InetAddress inetAddress)
+	private static int windowsPing(InetAddress inetAddress, int timeout)
 	{
 		IPHlpAPI ipHlpAPI = IPHlpAPI.INSTANCE;
 		Pointer ptr = ipHlpAPI.IcmpCreateFile();
@@ -130,7 +144,7 @@ public class Ping
 			IcmpEchoReply icmpEchoReply = new IcmpEchoReply(new Memory(IcmpEchoReply.SIZE + data.size()));
 			assert icmpEchoReply.size() == IcmpEchoReply.SIZE;
 			int packed = (address[0] & 0xff) | ((address[1] & 0xff) << 8) | ((address[2] & 0xff) << 16) | ((address[3] & 0xff) << 24);
-			int ret = ipHlpAPI.IcmpSendEcho(ptr, packed, data, (short) data.size(), Pointer.NULL, icmpEchoReply, IcmpEchoReply.SIZE + (int) data.size(), TIMEOUT);
+			int ret = ipHlpAPI.IcmpSendEcho(ptr, packed, data, (short) data.size(), Pointer.NULL, icmpEchoReply, IcmpEchoReply.SIZE + (int) data.size(), timeout);
 			if (ret != 1)
 			{
 				return -1;
@@ -144,7 +158,7 @@ public class Ping
 		}
 	}
 
-	private static int icmpPing(InetAddress inetAddress, boolean includeIpHeader) throws IOException
+	private static int icmpPing(InetAddress inetAddress, boolean includeIpHeader, int timeout) throws IOException
 	{
 		RLLibC libc = RLLibC.INSTANCE;
 		byte[] address = inetAddress.getAddress();
@@ -158,7 +172,8 @@ public class Ping
 		try
 		{
 			Timeval tv = new Timeval();
-			tv.tv_sec = TIMEOUT / 1000;
+			tv.tv_sec = timeout / 1000;
+			tv.tv_usec = (timeout % 1000) * 1000L;
 			tv.write();
 
 			if (libc.setsockopt(sock, libc.SOL_SOCKET, libc.SO_RCVTIMEO, tv.getPointer(), tv.size()) < 0)
@@ -171,7 +186,7 @@ public class Ping
 				throw new IOException("failed to set SO_SNDTIMEO");
 			}
 
-			short seqno = seq++;
+			short seqno = (short) SEQUENCE.getAndIncrement();
 
 			// struct icmphdr
 			byte[] request = {
@@ -211,7 +226,7 @@ public class Ping
 
 			while (true)
 			{
-				if ((System.nanoTime() - start) / 1_000_000 > TIMEOUT)
+				if ((System.nanoTime() - start) / 1_000_000 > timeout)
 				{
 					log.debug("timeout elapsed checking for echo reply");
 					break;
@@ -280,13 +295,13 @@ public class Ping
 		return (short) (~a & 0xffff);
 	}
 
-	private static int tcpPing(InetAddress inetAddress) throws IOException
+	private static int tcpPing(InetAddress inetAddress, int timeout) throws IOException
 	{
 		try (Socket socket = new Socket())
 		{
-			socket.setSoTimeout(TIMEOUT);
+			socket.setSoTimeout(timeout);
 			long start = System.nanoTime();
-			socket.connect(new InetSocketAddress(inetAddress, PORT));
+			socket.connect(new InetSocketAddress(inetAddress, PORT), timeout);
 			long end = System.nanoTime();
 			return (int) ((end - start) / 1000000L);
 		}
@@ -78,6 +78,9 @@ class XpInfoBoxOverlay extends OverlayPanel
 		iconXpSplitPanel.setBorder(XP_AND_ICON_COMPONENT_BORDER);
 		iconXpSplitPanel.setBackgroundColor(null);
 		addMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "XP Tracker overlay");
+		// the xp values change on game ticks, and the plugin invalidates the overlay as time based values
+		// like xp/hr are recalculated or the config changes
+		setCacheable(true);
 	}
 
 	@Override
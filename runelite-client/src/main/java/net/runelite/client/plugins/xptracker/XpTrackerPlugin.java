@@ -55,6 +55,7 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ClientShutdown;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.RuneScapeProfileChanged;
 import net.runelite.client.game.SkillIconManager;
 import net.runelite.client.plugins.Plugin;
@@ -217,6 +218,15 @@ public class XpTrackerPlugin extends Plugin
 		}
 	}
 
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (event.getGroup().equals("xpTracker"))
+		{
+			overlayManager.invalidateIf(o -> o instanceof XpInfoBoxOverlay);
+		}
+	}
+
 	@Subscribe
 	public void onRuneScapeProfileChanged(RuneScapeProfileChanged event)
 	{
@@ -747,6 +757,7 @@ public class XpTrackerPlugin extends Plugin
 		}
 
 		xpPanel.updateTotal(xpState.getTotalSnapshot());
+		overlayManager.invalidateIf(o -> o instanceof XpInfoBoxOverlay);
 	}
 
 	void pauseSkill(Skill skill, boolean pause)
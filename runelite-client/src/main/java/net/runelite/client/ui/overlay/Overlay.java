@@ -101,6 +101,24 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether this overlay may be rendered into an offscreen image which is redrawn each frame
+	 * instead of calling {@link #render(java.awt.Graphics2D)}. The overlay is rendered again after
+	 * {@link #invalidate()}, on each game tick, or if its font or preferred size changes, so it must
+	 * not depend on anything else which changes between frames, such as the mouse position. It also
+	 * must not draw outside of the dimension it returns.
+	 */
+	@Setter(AccessLevel.NONE)
+	private boolean cacheable;
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.NONE)
+	private final OverlayRenderCache renderCache = new OverlayRenderCache();
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.NONE)
+	private final OverlayRenderStats renderStats = new OverlayRenderStats();
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -242,6 +260,24 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	protected void setCacheable(boolean cacheable)
+	{
+		this.cacheable = cacheable;
+		if (!cacheable)
+		{
+			renderCache.release();
+		}
+	}
+
+	/**
+	 * Mark the contents of a {@link #isCacheable() cacheable} overlay as changed, so it is rendered
+	 * again on the next frame. This may be called from any thread.
+	 */
+	public void invalidate()
+	{
+		renderCache.invalidate();
+	}
+
 	public void setPosition(OverlayPosition position)
 	{
 		this.position = position;
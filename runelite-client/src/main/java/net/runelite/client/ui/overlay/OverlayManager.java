@@ -222,6 +222,7 @@ public class OverlayManager
 
 		if (remove)
 		{
+			overlay.getRenderCache().release();
 			rebuildOverlayLayers();
 		}
 
@@ -236,7 +237,15 @@ public class OverlayManager
 	 */
 	public synchronized boolean removeIf(Predicate<Overlay> filter)
 	{
-		final boolean removeIf = overlays.removeIf(filter);
+		final boolean removeIf = overlays.removeIf(overlay ->
+		{
+			if (filter.test(overlay))
+			{
+				overlay.getRenderCache().release();
+				return true;
+			}
+			return false;
+		});
 
 		if (removeIf)
 		{
@@ -257,11 +266,23 @@ public class OverlayManager
 		return overlays.stream().anyMatch(filter);
 	}
 
+	/**
+	 * Invalidate the cached rendering of all overlays matching the given predicate.
+	 *
+	 * @param filter Filter predicate function
+	 * @see Overlay#invalidate()
+	 */
+	public synchronized void invalidateIf(Predicate<Overlay> filter)
+	{
+		overlays.stream().filter(filter).forEach(Overlay::invalidate);
+	}
+
 	/**
 	 * Clear all overlays
 	 */
 	public synchronized void clear()
 	{
+		overlays.forEach(overlay -> overlay.getRenderCache().release());
 		overlays.clear();
 		rebuildOverlayLayers();
 	}
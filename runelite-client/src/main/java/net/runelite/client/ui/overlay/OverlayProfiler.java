@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Value;
+
+/**
+ * Collects render time histograms of each overlay, and of each overlay layer as a whole
+ */
+@Singleton
+public class OverlayProfiler
+{
+	/**
+	 * A snapshot of the render times of an overlay, or of a layer if {@code overlay} is null
+	 */
+	@Value
+	public static class OverlayTiming
+	{
+		private final String overlay;
+		private final OverlayLayer layer;
+		private final long samples;
+		private final long p50Nanos;
+		private final long p99Nanos;
+		private final long maxNanos;
+		/**
+		 * Number of frames the overlay was skipped for being over the render budget
+		 */
+		private final long skipped;
+	}
+
+	private final OverlayManager overlayManager;
+	private final Map<OverlayLayer, OverlayRenderStats> layerStats = new EnumMap<>(OverlayLayer.class);
+
+	/**
+	 * Whether to record render times. This adds a lock and two {@link System#nanoTime()} calls
+	 * per overlay render.
+	 */
+	@Getter
+	@Setter
+	private volatile boolean enabled;
+
+	@Inject
+	OverlayProfiler(OverlayManager overlayManager)
+	{
+		this.overlayManager = overlayManager;
+		for (OverlayLayer layer : OverlayLayer.values())
+		{
+			layerStats.put(layer, new OverlayRenderStats());
+		}
+	}
+
+	OverlayRenderStats getLayerStats(OverlayLayer layer)
+	{
+		return layerStats.get(layer);
+	}
+
+	/**
+	 * Snapshot the render times of every overlay and layer which has rendered or been skipped
+	 * while profiling, ordered by p99 render time, highest first.
+	 *
+	 * @return overlay timings
+	 */
+	public List<OverlayTiming> getTimings()
+	{
+		final List<OverlayTiming> timings = new ArrayList<>();
+		for (Map.Entry<OverlayLayer, OverlayRenderStats> entry : layerStats.entrySet())
+		{
+			addTiming(timings, null, entry.getKey(), entry.getValue());
+		}
+
+		synchronized (overlayManager)
+		{
+			for (Overlay overlay : overlayManager.getOverlays())
+			{
+				addTiming(timings, overlay.getName(), overlay.getLayer(), overlay.getRenderStats());
+			}
+		}
+
+		timings.sort(Comparator.comparingLong(OverlayTiming::getP99Nanos).reversed());
+		return timings;
+	}
+
+	private static void addTiming(List<OverlayTiming> timings, String overlay, OverlayLayer layer, OverlayRenderStats stats)
+	{
+		if (stats.getSamples() > 0 || stats.getSkipped() > 0)
+		{
+			timings.add(new OverlayTiming(overlay, layer, stats.getSamples(),
+				stats.percentile(0.5), stats.percentile(0.99), stats.getMaxNanos(), stats.getSkipped()));
+		}
+	}
+
+	/**
+	 * Reset the recorded render times of every overlay and layer
+	 */
+	public void reset()
+	{
+		layerStats.values().forEach(OverlayRenderStats::reset);
+
+		synchronized (overlayManager)
+		{
+			overlayManager.getOverlays().forEach(overlay -> overlay.getRenderStats().reset());
+		}
+	}
+}
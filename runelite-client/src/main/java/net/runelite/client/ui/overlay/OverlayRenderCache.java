@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Retained rendering of a {@link Overlay#isCacheable() cacheable} overlay. The overlay is drawn into
+ * an offscreen image which is blitted each frame until the overlay is invalidated, the game ticks, or
+ * the font or preferred size it was drawn with changes.
+ */
+class OverlayRenderCache
+{
+	private BufferedImage image;
+	/**
+	 * Dimension returned by the last render, or null if nothing was drawn
+	 */
+	private Dimension dimension;
+	private int generation;
+	private Font font;
+	private Dimension preferredSize;
+	private boolean valid;
+	/**
+	 * Bumped by {@link #invalidate()}, which may be called from any thread
+	 */
+	private volatile int invalidations;
+	private int renderedInvalidations;
+
+	void invalidate()
+	{
+		invalidations++;
+	}
+
+	/**
+	 * @return a stamp to pass to {@link #update} which is taken before rendering, so that an
+	 * invalidation during the render is not lost
+	 */
+	int stamp()
+	{
+		return invalidations;
+	}
+
+	/**
+	 * Release the offscreen image
+	 */
+	void release()
+	{
+		valid = false;
+		image = null;
+		dimension = null;
+	}
+
+	boolean isValid(int generation, Font font, Dimension preferredSize)
+	{
+		return valid
+			&& renderedInvalidations == invalidations
+			&& this.generation == generation
+			&& this.font == font
+			&& (this.preferredSize == null ? preferredSize == null : this.preferredSize.equals(preferredSize));
+	}
+
+	Dimension getDimension()
+	{
+		return dimension;
+	}
+
+	/**
+	 * @return the size to render the overlay at, or null if it is not yet known
+	 */
+	Dimension getRenderSize()
+	{
+		if (dimension != null && dimension.width > 0 && dimension.height > 0)
+		{
+			return dimension;
+		}
+		return null;
+	}
+
+	/**
+	 * Draw the cached image at the given location
+	 */
+	void draw(Graphics2D graphics, int x, int y)
+	{
+		final BufferedImage image = this.image;
+		final Dimension dimension = this.dimension;
+		if (image != null && dimension != null)
+		{
+			graphics.drawImage(image, x, y, x + dimension.width, y + dimension.height,
+				0, 0, dimension.width, dimension.height, null);
+		}
+	}
+
+	/**
+	 * Get a cleared graphics for the offscreen image of at least the given size.
+	 * The caller must dispose of it.
+	 */
+	Graphics2D createGraphics(Dimension size, RenderingHints renderingHints, Font font)
+	{
+		if (image == null || image.getWidth() < size.width || image.getHeight() < size.height)
+		{
+			final int width = image == null ? size.width : Math.max(size.width, image.getWidth());
+			final int height = image == null ? size.height : Math.max(size.height, image.getHeight());
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+		}
+
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setComposite(AlphaComposite.Clear);
+		graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+		graphics.setComposite(AlphaComposite.SrcOver);
+		graphics.setRenderingHints(renderingHints);
+		graphics.setClip(0, 0, size.width, size.height);
+		graphics.setFont(font);
+		return graphics;
+	}
+
+	/**
+	 * Record the result of rendering the overlay, either into the offscreen image or directly
+	 *
+	 * @param dimension the dimension returned by the overlay
+	 * @param cached whether the image holds the rendered overlay
+	 * @param stamp the {@link #stamp()} taken before rendering
+	 */
+	void update(Dimension dimension, boolean cached, int stamp, int generation, Font font, Dimension preferredSize)
+	{
+		this.renderedInvalidations = stamp;
+		this.dimension = dimension == null ? null : new Dimension(dimension);
+		this.generation = generation;
+		this.font = font;
+		this.preferredSize = preferredSize == null ? null : new Dimension(preferredSize);
+		// an overlay drawn directly is valid only if it drew nothing, otherwise it
+		// needs a render into the image now that its size is known
+		this.valid = cached || this.dimension == null || this.dimension.width <= 0 || this.dimension.height <= 0;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.util.Arrays;
+
+/**
+ * Render time histogram and frame budget state of an overlay or overlay layer.
+ * Samples are recorded on the client thread and may be read from any thread.
+ */
+class OverlayRenderStats
+{
+	/**
+	 * Consecutive renders over budget before an overlay is suspended
+	 */
+	private static final int BUDGET_STRIKES = 5;
+	/**
+	 * Number of frames an overlay over budget is skipped for
+	 */
+	private static final int SUSPEND_FRAMES = 250;
+
+	// Log-linear buckets: values below 16ns have a bucket each, then each power of two
+	// is split into 8 sub-buckets, for a worst case error of 1/16 of the value
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int LINEAR_BUCKETS = 2 * SUB_BUCKETS;
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKETS = LINEAR_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final long[] buckets = new long[BUCKETS];
+	private long samples;
+	private long maxNanos;
+	private long skipped;
+
+	private int strikes;
+	private int suspendedFrames;
+
+	synchronized void record(long nanos)
+	{
+		++buckets[bucket(nanos)];
+		++samples;
+		maxNanos = Math.max(maxNanos, nanos);
+	}
+
+	synchronized void reset()
+	{
+		Arrays.fill(buckets, 0L);
+		samples = 0;
+		maxNanos = 0;
+		skipped = 0;
+	}
+
+	synchronized long getSamples()
+	{
+		return samples;
+	}
+
+	synchronized long getMaxNanos()
+	{
+		return maxNanos;
+	}
+
+	synchronized long getSkipped()
+	{
+		return skipped;
+	}
+
+	/**
+	 * Estimate a percentile of the recorded samples
+	 *
+	 * @param percentile percentile, 0 to 1
+	 * @return render time in nanoseconds
+	 */
+	synchronized long percentile(double percentile)
+	{
+		if (samples == 0)
+		{
+			return 0L;
+		}
+
+		final long rank = Math.max(1L, (long) Math.ceil(samples * percentile));
+		long count = 0;
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			count += buckets[i];
+			if (count >= rank)
+			{
+				return Math.min(midpoint(i), maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+
+	/**
+	 * Called before rendering while a frame budget is set
+	 *
+	 * @return true if the overlay is suspended and should not be rendered this frame
+	 */
+	boolean skip()
+	{
+		if (suspendedFrames > 0)
+		{
+			--suspendedFrames;
+			synchronized (this)
+			{
+				++skipped;
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Called after rendering while a frame budget is set
+	 *
+	 * @param overBudget whether the render took longer than the budget
+	 * @return true if the overlay has now been suspended
+	 */
+	boolean checkBudget(boolean overBudget)
+	{
+		if (!overBudget)
+		{
+			strikes = 0;
+			return false;
+		}
+
+		if (++strikes < BUDGET_STRIKES)
+		{
+			return false;
+		}
+
+		strikes = 0;
+		suspendedFrames = SUSPEND_FRAMES;
+		return true;
+	}
+
+	static int bucket(long nanos)
+	{
+		if (nanos < LINEAR_BUCKETS)
+		{
+			return (int) Math.max(nanos, 0L);
+		}
+
+		final int exponent = Math.min(63 - Long.numberOfLeadingZeros(nanos), MAX_EXPONENT);
+		final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return Math.min(LINEAR_BUCKETS + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket, BUCKETS - 1);
+	}
+
+	static long midpoint(int bucket)
+	{
+		if (bucket < LINEAR_BUCKETS)
+		{
+			return bucket;
+		}
+
+		final int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+		final int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+		final long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return (long) (SUB_BUCKETS + subBucket) * width + width / 2;
+	}
+}
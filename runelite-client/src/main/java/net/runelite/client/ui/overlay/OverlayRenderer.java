@@ -24,6 +24,7 @@
  */
 package net.runelite.client.ui.overlay;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import com.google.common.primitives.Ints;
 import java.awt.Color;
@@ -42,6 +43,7 @@ import java.awt.geom.AffineTransform;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -52,6 +54,7 @@ import net.runelite.api.GameState;
 import net.runelite.api.KeyCode;
 import net.runelite.api.events.BeforeRender;
 import net.runelite.api.events.FocusChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.MenuOpened;
 import net.runelite.api.events.PostMenuSort;
 import net.runelite.api.gameval.InterfaceID;
@@ -97,6 +100,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final OverlayProfiler overlayProfiler;
 
 	private Font font, tooltipFont, interfaceFont;
 
@@ -114,6 +118,8 @@ public class OverlayRenderer extends MouseAdapter
 	private Overlay lastHoveredOverlay; // for off-thread access
 
 	private final SnapCorners snapCorners = new SnapCorners();
+	// bumped each game tick to expire cached overlay renders
+	private int renderGeneration;
 	private boolean dragWarn;
 
 	@Inject
@@ -125,7 +131,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final OverlayProfiler overlayProfiler
 	)
 	{
 		this.client = client;
@@ -134,6 +141,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.overlayProfiler = overlayProfiler;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -219,6 +227,12 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
+	@Subscribe
+	public void onGameTick(GameTick event)
+	{
+		renderGeneration++;
+	}
+
 	@Subscribe
 	public void onBeforeRender(BeforeRender event)
 	{
@@ -294,6 +308,11 @@ public class OverlayRenderer extends MouseAdapter
 		final Rectangle clip = clipBounds(layer);
 		graphics.setClip(clip);
 
+		final boolean profiling = overlayProfiler.isEnabled();
+		final long budgetNanos = TimeUnit.MILLISECONDS.toNanos(runeLiteConfig.overlayRenderBudget());
+		final boolean timed = profiling || budgetNanos > 0;
+		final long layerStart = profiling ? System.nanoTime() : 0L;
+
 		final Point location = new Point();
 		for (Overlay overlay : overlays)
 		{
@@ -326,7 +345,52 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
-			safeRender(overlay, graphics, location);
+			final OverlayRenderStats stats = overlay.getRenderStats();
+			final boolean restore;
+			if (budgetNanos > 0 && stats.skip())
+			{
+				// The overlay is over the render budget, so draw its last cached render if it has one, or nothing
+				bounds.setLocation(location);
+				final Dimension cached = overlay.isCacheable() ? overlay.getRenderCache().getDimension() : null;
+				if (cached != null)
+				{
+					bounds.setSize(cached);
+					overlay.getRenderCache().draw(graphics, location.x, location.y);
+				}
+				else
+				{
+					bounds.setSize(0, 0);
+				}
+				restore = false;
+			}
+			else
+			{
+				final long start = timed ? System.nanoTime() : 0L;
+
+				if (overlay.isCacheable())
+				{
+					restore = renderCached(overlay, graphics, location, renderingHints);
+				}
+				else
+				{
+					safeRender(overlay, graphics, location);
+					restore = true;
+				}
+
+				if (timed)
+				{
+					final long elapsed = System.nanoTime() - start;
+					if (profiling)
+					{
+						stats.record(elapsed);
+					}
+
+					if (budgetNanos > 0 && stats.checkBudget(elapsed > budgetNanos))
+					{
+						log.debug("Overlay {} is repeatedly over the {}ms render budget, skipping it", overlay.getName(), runeLiteConfig.overlayRenderBudget());
+					}
+				}
+			}
 
 			// Adjust snap corner based on where the overlay was drawn
 			if (snapCorner != null && bounds.width + bounds.height > 0)
@@ -334,16 +398,19 @@ public class OverlayRenderer extends MouseAdapter
 				snapCorner.shift(bounds, PADDING);
 			}
 
-			// Restore graphics2d properties prior to drawing bounds
-			graphics.setTransform(transform);
-			graphics.setStroke(stroke);
-			graphics.setComposite(composite);
-			graphics.setPaint(paint);
-			graphics.setRenderingHints(renderingHints);
-			graphics.setBackground(background);
-			if (!graphics.getClip().equals(clip))
+			if (restore)
 			{
-				graphics.setClip(clip);
+				// Restore graphics2d properties prior to drawing bounds
+				graphics.setTransform(transform);
+				graphics.setStroke(stroke);
+				graphics.setComposite(composite);
+				graphics.setPaint(paint);
+				graphics.setRenderingHints(renderingHints);
+				graphics.setBackground(background);
+				if (!graphics.getClip().equals(clip))
+				{
+					graphics.setClip(clip);
+				}
 			}
 
 			if (!bounds.isEmpty())
@@ -383,6 +450,11 @@ public class OverlayRenderer extends MouseAdapter
 				}
 			}
 		}
+
+		if (profiling)
+		{
+			overlayProfiler.getLayerStats(layer).record(System.nanoTime() - layerStart);
+		}
 	}
 
 	@Override
@@ -718,24 +790,105 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
-	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	private Font getOverlayFont(Overlay overlay)
 	{
 		final OverlayPosition position = overlay.getPosition();
 
 		// Set font based on configuration
 		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
 		{
-			graphics.setFont(font);
+			return font;
 		}
 		else if (position == OverlayPosition.TOOLTIP)
 		{
-			graphics.setFont(tooltipFont);
+			return tooltipFont;
+		}
+		else
+		{
+			return interfaceFont;
+		}
+	}
+
+	/**
+	 * Render a cacheable overlay by drawing its offscreen image, first rendering the overlay into
+	 * the image if the cached render is stale.
+	 *
+	 * @return true if the overlay was rendered directly, modifying the graphics state
+	 */
+	@VisibleForTesting
+	boolean renderCached(Overlay overlay, Graphics2D graphics, Point point, RenderingHints renderingHints)
+	{
+		final OverlayRenderCache cache = overlay.getRenderCache();
+		final Font overlayFont = getOverlayFont(overlay);
+		final Dimension preferredSize = overlay.getPreferredSize();
+		final Rectangle bounds = overlay.getBounds();
+
+		if (!cache.isValid(renderGeneration, overlayFont, preferredSize))
+		{
+			final int stamp = cache.stamp();
+			Dimension size = cache.getRenderSize();
+			if (size == null)
+			{
+				// The size of the overlay isn't known until it has rendered, so render it directly this frame
+				if (safeRender(overlay, graphics, point))
+				{
+					cache.update(bounds.getSize(), false, stamp, renderGeneration, overlayFont, preferredSize);
+				}
+				return true;
+			}
+
+			for (int attempt = 0; attempt < 2; ++attempt)
+			{
+				final Graphics2D cacheGraphics = cache.createGraphics(size, renderingHints, overlayFont);
+				final Dimension overlayDimension;
+				try
+				{
+					overlayDimension = overlay.render(cacheGraphics);
+				}
+				catch (Exception ex)
+				{
+					log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
+					bounds.setLocation(point);
+					return false;
+				}
+				finally
+				{
+					cacheGraphics.dispose();
+				}
+
+				final boolean fits = overlayDimension == null
+					|| (overlayDimension.width <= size.width && overlayDimension.height <= size.height);
+				cache.update(overlayDimension, fits, stamp, renderGeneration, overlayFont, preferredSize);
+				if (fits)
+				{
+					break;
+				}
+
+				// The overlay grew and was clipped, render it again at its new size
+				size = overlayDimension;
+			}
+		}
+
+		final Dimension dimension = cache.getDimension();
+		bounds.setLocation(point);
+		if (dimension != null)
+		{
+			bounds.setSize(dimension);
+			cache.draw(graphics, point.x, point.y);
 		}
 		else
 		{
-			graphics.setFont(interfaceFont);
+			bounds.setSize(0, 0);
 		}
+		return false;
+	}
 
+	/**
+	 * @return false if the overlay threw while rendering
+	 */
+	private boolean safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	{
+		graphics.setFont(getOverlayFont(overlay));
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
@@ -747,7 +900,7 @@ public class OverlayRenderer extends MouseAdapter
 		catch (Exception ex)
 		{
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
-			return;
+			return false;
 		}
 
 		if (overlayDimension != null)
@@ -758,6 +911,7 @@ public class OverlayRenderer extends MouseAdapter
 		{
 			overlay.getBounds().setSize(0, 0);
 		}
+		return true;
 	}
 
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
@@ -103,10 +103,18 @@ public class InfoBoxManager
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (event.getGroup().equals("runelite") && event.getKey().equals("infoBoxSize"))
+		if (!event.getGroup().equals("runelite"))
+		{
+			return;
+		}
+
+		if (event.getKey().equals("infoBoxSize"))
 		{
 			layers.values().forEach(l -> l.getInfoBoxes().forEach(this::updateInfoBoxImage));
 		}
+
+		// the infobox font, outline, and background are read from the config when drawing
+		layers.values().forEach(InfoBoxOverlay::invalidate);
 	}
 
 	@Subscribe
@@ -258,6 +266,13 @@ public class InfoBoxManager
 		}
 
 		infoBox.setScaledImage(resultImage);
+
+		// the image may have loaded in place, so redraw the layer even if the scaled image is unchanged
+		final InfoBoxOverlay overlay = infoBox.layer == null ? null : layers.get(infoBox.layer);
+		if (overlay != null)
+		{
+			overlay.invalidate();
+		}
 	}
 
 	private InfoBoxOverlay makeOverlay(String name)
@@ -32,14 +32,19 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.MenuAction;
+import net.runelite.api.events.BeforeRender;
 import net.runelite.api.events.MenuOptionClicked;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.eventbus.EventBus;
@@ -51,7 +56,6 @@ import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.components.ComponentOrientation;
 import net.runelite.client.ui.overlay.components.InfoBoxComponent;
-import net.runelite.client.ui.overlay.components.LayoutableRenderableEntity;
 import net.runelite.client.ui.overlay.tooltip.Tooltip;
 import net.runelite.client.ui.overlay.tooltip.TooltipManager;
 import org.slf4j.Marker;
@@ -76,6 +80,9 @@ public class InfoBoxOverlay extends OverlayPanel
 	@Getter
 	private final List<InfoBox> infoBoxes = new CopyOnWriteArrayList<>();
 
+	// the infoboxes drawn by the last render, for finding the hovered infobox and detecting
+	// changes to the infoboxes without rendering again
+	private final List<RenderedInfoBox> renderedInfoBoxes = new ArrayList<>();
 	private InfoBoxComponent hoveredComponent;
 
 	InfoBoxOverlay(
@@ -97,6 +104,8 @@ public class InfoBoxOverlay extends OverlayPanel
 		setPosition(OverlayPosition.TOP_LEFT);
 		setClearChildren(false);
 		setDragTargetable(true);
+		// redrawn when the infoboxes change, see onBeforeRender, or when the infobox config changes
+		setCacheable(true);
 
 		panelComponent.setWrap(true);
 		panelComponent.setBackgroundColor(null);
@@ -113,11 +122,7 @@ public class InfoBoxOverlay extends OverlayPanel
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		final boolean menuOpen = client.isMenuOpen();
-		if (!menuOpen)
-		{
-			hoveredComponent = null;
-		}
+		renderedInfoBoxes.clear();
 
 		if (infoBoxes.isEmpty())
 		{
@@ -165,16 +170,25 @@ public class InfoBoxOverlay extends OverlayPanel
 			infoBoxComponent.setBackgroundColor(overlayBackgroundColor);
 			infoBoxComponent.setInfoBox(box);
 			panelComponent.getChildren().add(infoBoxComponent);
+			renderedInfoBoxes.add(new RenderedInfoBox(infoBoxComponent, text, color, box.getScaledImage(), box.getTooltip()));
 		}
 
 		final Dimension dimension = super.render(graphics);
+		panelComponent.getChildren().clear();
+		return dimension;
+	}
 
-		// Handle tooltips
+	@Override
+	public void onMouseOver()
+	{
+		// Handle tooltips. This is called each frame the overlay is hovered while the menu is closed,
+		// which is also the only time the hovered infobox's menu entries are used.
 		final Point mouse = new Point(client.getMouseCanvasPosition().getX(), client.getMouseCanvasPosition().getY());
 
-		for (final LayoutableRenderableEntity child : panelComponent.getChildren())
+		hoveredComponent = null;
+		for (RenderedInfoBox rendered : renderedInfoBoxes)
 		{
-			final InfoBoxComponent component = (InfoBoxComponent) child;
+			final InfoBoxComponent component = rendered.component;
 
 			// Create intersection rectangle
 			final Rectangle intersectionRectangle = new Rectangle(component.getBounds());
@@ -188,16 +202,10 @@ public class InfoBoxOverlay extends OverlayPanel
 					tooltipManager.add(new Tooltip(tooltip));
 				}
 
-				if (!menuOpen)
-				{
-					hoveredComponent = component;
-				}
+				hoveredComponent = component;
 				break;
 			}
 		}
-
-		panelComponent.getChildren().clear();
-		return dimension;
 	}
 
 	@Override
@@ -207,6 +215,49 @@ public class InfoBoxOverlay extends OverlayPanel
 		return hoveredComponent == null ? Collections.emptyList() : hoveredComponent.getInfoBox().getMenuEntries();
 	}
 
+	@Subscribe
+	public void onBeforeRender(BeforeRender beforeRender)
+	{
+		if (!client.isMenuOpen())
+		{
+			// set again by onMouseOver if this overlay is still hovered
+			hoveredComponent = null;
+		}
+
+		// Timers and counters change their text without telling the infobox manager, so compare
+		// the infoboxes against what was last drawn and redraw the layer if any have changed
+		if (hasChanged())
+		{
+			invalidate();
+		}
+	}
+
+	private boolean hasChanged()
+	{
+		int idx = 0;
+		for (InfoBox box : infoBoxes)
+		{
+			try
+			{
+				if (!box.render())
+				{
+					continue;
+				}
+
+				if (idx >= renderedInfoBoxes.size() || !renderedInfoBoxes.get(idx++).matches(box))
+				{
+					return true;
+				}
+			}
+			catch (Exception ex)
+			{
+				// let render() log it
+				return true;
+			}
+		}
+		return idx != renderedInfoBoxes.size();
+	}
+
 	@Subscribe
 	public void onMenuOptionClicked(MenuOptionClicked menuOptionClicked)
 	{
@@ -240,6 +291,27 @@ public class InfoBoxOverlay extends OverlayPanel
 
 	ComponentOrientation flip()
 	{
-		return orientation = orientation == ComponentOrientation.HORIZONTAL ? ComponentOrientation.VERTICAL : ComponentOrientation.HORIZONTAL;
+		orientation = orientation == ComponentOrientation.HORIZONTAL ? ComponentOrientation.VERTICAL : ComponentOrientation.HORIZONTAL;
+		invalidate();
+		return orientation;
+	}
+
+	@RequiredArgsConstructor
+	private static class RenderedInfoBox
+	{
+		private final InfoBoxComponent component;
+		private final String text;
+		private final Color color;
+		private final BufferedImage image;
+		private final String tooltip;
+
+		boolean matches(InfoBox box)
+		{
+			return component.getInfoBox() == box
+				&& Objects.equals(text, box.getText())
+				&& Objects.equals(color, box.getTextColor())
+				&& image == box.getScaledImage()
+				&& Objects.equals(tooltip, box.getTooltip());
+		}
 	}
 }
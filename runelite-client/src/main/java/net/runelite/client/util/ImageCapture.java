@@ -35,25 +35,39 @@ import java.awt.TrayIcon;
 import java.awt.datatransfer.Clipboard;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nullable;
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.client.Notifier;
 import static net.runelite.client.RuneLite.SCREENSHOT_DIR;
+import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.config.RuneScapeProfileType;
+import net.runelite.client.config.ScreenshotFormat;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.events.ScreenshotTaken;
 import net.runelite.client.ui.ClientUI;
@@ -65,6 +79,23 @@ import net.runelite.client.ui.DrawManager;
 public class ImageCapture
 {
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
+	// screenshots waiting to be encoded, beyond which saveScreenshot() blocks
+	private static final int MAX_QUEUED_SCREENSHOTS = 8;
+
+	@Value
+	public static class EncodeStats
+	{
+		/**
+		 * Screenshots waiting to be encoded, or being encoded
+		 */
+		int queued;
+		/**
+		 * Screenshots encoded and written
+		 */
+		long encoded;
+		long totalEncodeNanos;
+		long maxEncodeNanos;
+	}
 
 	private final Client client;
 	private final Notifier notifier;
@@ -72,6 +103,16 @@ public class ImageCapture
 	private final DrawManager drawManager;
 	private final ScheduledExecutorService executor;
 	private final EventBus eventBus;
+	private final RuneLiteConfig runeLiteConfig;
+
+	// Screenshots are encoded and written on their own thread, so that saving a screenshot holds up
+	// neither the thread it was taken on nor the shared executor
+	private final ThreadPoolExecutor encodeExecutor = createEncodeExecutor();
+	// only used on the encode thread
+	private final PngEncoder pngEncoder = new PngEncoder();
+	private final AtomicLong encoded = new AtomicLong();
+	private final AtomicLong totalEncodeNanos = new AtomicLong();
+	private final AtomicLong maxEncodeNanos = new AtomicLong();
 
 	/**
 	 * Take a screenshot and save it
@@ -163,6 +204,8 @@ public class ImageCapture
 
 	/**
 	 * Save a screenshot to disk. And optionally send a notification and copy it to clipboard.
+	 * The screenshot is encoded and written in the background, after which the notification is
+	 * sent and a {@link ScreenshotTaken} event is posted. The screenshot must not be modified afterward.
 	 *
 	 * @param screenshot screenshot
 	 * @param fileName Filename to use, without file extension.
@@ -207,29 +250,59 @@ public class ImageCapture
 			playerFolder = SCREENSHOT_DIR;
 		}
 
-		playerFolder.mkdirs();
+		final String screenshotName = fileName + (fileName.isEmpty() ? "" : " ") + format(new Date());
+		final ScreenshotFormat screenshotFormat = runeLiteConfig.screenshotFormat();
+		final int compression = runeLiteConfig.screenshotCompression();
+		encodeExecutor.execute(() ->
+			writeScreenshot(screenshot, playerFolder, screenshotName, screenshotFormat, compression, notify, saveToClipboard));
+	}
 
-		fileName += (fileName.isEmpty() ? "" : " ") + format(new Date());
+	private void writeScreenshot(
+		BufferedImage screenshot,
+		File playerFolder,
+		String fileName,
+		ScreenshotFormat screenshotFormat,
+		int compression,
+		boolean notify,
+		boolean saveToClipboard
+	)
+	{
+		final long start = System.nanoTime();
 
-		File screenshotFile = new File(playerFolder, fileName + ".png");
-		// To make sure that screenshots don't get overwritten, check if file exists,
-		// and if it does create file with same name and suffix.
-		int i = 1;
-		while (screenshotFile.exists())
-		{
-			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
-		}
+		playerFolder.mkdirs();
 
+		File screenshotFile = null;
 		try
 		{
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			screenshotFile = createScreenshotFile(playerFolder, fileName, screenshotFormat.getExtension());
+			try (OutputStream out = new BufferedOutputStream(new FileOutputStream(screenshotFile)))
+			{
+				if (screenshotFormat == ScreenshotFormat.JPEG)
+				{
+					writeJpeg(screenshot, compression, out);
+				}
+				else
+				{
+					pngEncoder.encode(screenshot, compression, out);
+				}
+			}
 		}
 		catch (IOException ex)
 		{
 			log.error("error writing screenshot", ex);
+			if (screenshotFile != null)
+			{
+				screenshotFile.delete();
+			}
 			return;
 		}
 
+		final long elapsed = System.nanoTime() - start;
+		encoded.incrementAndGet();
+		totalEncodeNanos.addAndGet(elapsed);
+		maxEncodeNanos.accumulateAndGet(elapsed, Math::max);
+		log.debug("Saved screenshot {} in {}ms ({} queued)", screenshotFile, elapsed / 1_000_000L, encodeExecutor.getQueue().size());
+
 		if (saveToClipboard)
 		{
 			Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
@@ -254,7 +327,83 @@ public class ImageCapture
 	}
 
 	/**
-	 * Saves a screenshot to the screenshots folder as a PNG, and fires a ScreenshotTaken
+	 * Create the file for a screenshot. To make sure that screenshots don't get overwritten, the file is
+	 * created atomically, and if it already exists a file with the same name and a suffix is tried instead.
+	 */
+	private static File createScreenshotFile(File playerFolder, String fileName, String extension) throws IOException
+	{
+		File screenshotFile = new File(playerFolder, fileName + "." + extension);
+		for (int i = 1; !screenshotFile.createNewFile(); i++)
+		{
+			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i) + "." + extension);
+		}
+		return screenshotFile;
+	}
+
+	private static void writeJpeg(BufferedImage image, int compression, OutputStream out) throws IOException
+	{
+		if (image.getColorModel().hasAlpha())
+		{
+			// JPEG has no alpha channel
+			final BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+			final Graphics2D graphics = rgb.createGraphics();
+			graphics.drawImage(image, 0, 0, null);
+			graphics.dispose();
+			image = rgb;
+		}
+
+		final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out))
+		{
+			final ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(1f - compression * 0.05f);
+
+			writer.setOutput(imageOut);
+			writer.write(null, new IIOImage(image, null, null), param);
+		}
+		finally
+		{
+			writer.dispose();
+		}
+	}
+
+	/**
+	 * Get statistics about screenshot encoding
+	 */
+	public EncodeStats getEncodeStats()
+	{
+		return new EncodeStats(
+			encodeExecutor.getQueue().size() + encodeExecutor.getActiveCount(),
+			encoded.get(),
+			totalEncodeNanos.get(),
+			maxEncodeNanos.get());
+	}
+
+	private static ThreadPoolExecutor createEncodeExecutor()
+	{
+		return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_SCREENSHOTS), r ->
+		{
+			final Thread thread = new Thread(r, "Screenshot-encoder");
+			thread.setDaemon(true);
+			return thread;
+		}, (r, executor) ->
+		{
+			// wait for room in the queue rather than dropping the screenshot
+			try
+			{
+				executor.getQueue().put(r);
+			}
+			catch (InterruptedException ex)
+			{
+				log.warn("interrupted queueing screenshot");
+				Thread.currentThread().interrupt();
+			}
+		});
+	}
+
+	/**
+	 * Saves a screenshot to the screenshots folder, and fires a ScreenshotTaken
 	 * event afterward.
 	 * @deprecated This method formerly could upload the image to Imgur, which is no longer supported. Use saveScreenshot instead.
 	 * @see #saveScreenshot(BufferedImage, String, String, boolean, boolean)
@@ -266,7 +415,7 @@ public class ImageCapture
 	}
 
 	/**
-	  * Saves a screenshot to the screenshots folder as a PNG, and fires a ScreenshotTaken
+	  * Saves a screenshot to the screenshots folder, and fires a ScreenshotTaken
 	  * event afterward.
 	 * @deprecated This method formerly could upload the image to Imgur, which is no longer supported. Use saveScreenshot instead.
 	 * @see #saveScreenshot(BufferedImage, String, String, boolean, boolean)
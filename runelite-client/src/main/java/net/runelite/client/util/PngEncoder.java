@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A PNG encoder for screenshots, which is considerably faster than the ImageIO PNG writer. Each row is
+ * filtered with whichever of the None, Sub and Up filters has the smallest sum of absolute values,
+ * and compressed with a configurable deflate level. An encoder reuses its buffers between images,
+ * and so is not thread safe.
+ */
+class PngEncoder
+{
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	private static final int CHUNK_SIZE = 1 << 16;
+
+	private static final int FILTER_NONE = 0;
+	private static final int FILTER_SUB = 1;
+	private static final int FILTER_UP = 2;
+
+	private final Deflater deflater = new Deflater();
+	private final CRC32 crc = new CRC32();
+	private final byte[] chunk = new byte[CHUNK_SIZE];
+	private int chunkLength;
+
+	private int[] pixels = new int[0];
+	// the current and previous row, unfiltered, and the current row with each filter. The filtered
+	// rows are prefixed with their filter type.
+	private byte[] row = new byte[0];
+	private byte[] prevRow = new byte[0];
+	private byte[] noneRow = new byte[0];
+	private byte[] subRow = new byte[0];
+	private byte[] upRow = new byte[0];
+
+	/**
+	 * Encode an image as a PNG. The image is written as 8 bit RGB, or RGBA if it has an alpha channel.
+	 *
+	 * @param image the image
+	 * @param level the deflate compression level, 0-9
+	 * @param out   the stream to write the PNG to. It is not closed.
+	 * @throws IOException if writing to the stream fails
+	 */
+	void encode(BufferedImage image, int level, OutputStream out) throws IOException
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final boolean alpha = image.getColorModel().hasAlpha();
+		final int bytesPerPixel = alpha ? 4 : 3;
+		final int stride = width * bytesPerPixel;
+		// the pixels of int rasters can be copied out directly, other types are converted by getRGB()
+		final boolean intRaster = image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB;
+		final WritableRaster raster = image.getRaster();
+
+		if (pixels.length < width)
+		{
+			pixels = new int[width];
+		}
+		if (row.length < stride)
+		{
+			row = new byte[stride];
+			prevRow = new byte[stride];
+			noneRow = new byte[stride + 1];
+			subRow = new byte[stride + 1];
+			upRow = new byte[stride + 1];
+		}
+
+		final DataOutputStream dataOut = new DataOutputStream(out);
+		dataOut.write(SIGNATURE);
+
+		chunkLength = 0;
+		putInt(width);
+		putInt(height);
+		putByte(8); // bit depth
+		putByte(alpha ? 6 : 2); // color type - truecolor with alpha, or truecolor
+		putByte(0); // compression method - deflate
+		putByte(0); // filter method - adaptive
+		putByte(0); // interlace method - none
+		writeChunk(dataOut, "IHDR");
+
+		deflater.reset();
+		deflater.setLevel(level);
+
+		for (int y = 0; y < height; ++y)
+		{
+			if (intRaster)
+			{
+				raster.getDataElements(0, y, width, 1, pixels);
+			}
+			else
+			{
+				image.getRGB(0, y, width, 1, pixels, 0, width);
+			}
+
+			for (int x = 0, i = 0; x < width; ++x)
+			{
+				final int pixel = pixels[x];
+				row[i++] = (byte) (pixel >>> 16);
+				row[i++] = (byte) (pixel >>> 8);
+				row[i++] = (byte) pixel;
+				if (alpha)
+				{
+					row[i++] = (byte) (pixel >>> 24);
+				}
+			}
+
+			deflate(dataOut, filter(stride, y == 0, bytesPerPixel, level == 0), stride + 1);
+
+			final byte[] tmp = prevRow;
+			prevRow = row;
+			row = tmp;
+		}
+
+		deflater.finish();
+		while (!deflater.finished())
+		{
+			drain(dataOut);
+		}
+		if (chunkLength > 0)
+		{
+			writeChunk(dataOut, "IDAT");
+		}
+
+		writeChunk(dataOut, "IEND");
+		dataOut.flush();
+	}
+
+	/**
+	 * Filter the current row
+	 *
+	 * @return the filtered row with the smallest sum of absolute values, prefixed by its filter type
+	 */
+	private byte[] filter(int stride, boolean firstRow, int bytesPerPixel, boolean noFilter)
+	{
+		noneRow[0] = FILTER_NONE;
+		System.arraycopy(row, 0, noneRow, 1, stride);
+		if (noFilter)
+		{
+			return noneRow;
+		}
+
+		long noneSum = 0, subSum = 0, upSum = 0;
+		subRow[0] = FILTER_SUB;
+		upRow[0] = FILTER_UP;
+		for (int i = 0; i < stride; ++i)
+		{
+			final byte b = row[i];
+			final byte sub = (byte) (i < bytesPerPixel ? b : b - row[i - bytesPerPixel]);
+			final byte up = (byte) (firstRow ? b : b - prevRow[i]);
+			subRow[i + 1] = sub;
+			upRow[i + 1] = up;
+			noneSum += Math.abs(b);
+			subSum += Math.abs(sub);
+			upSum += Math.abs(up);
+		}
+
+		if (subSum <= upSum && subSum <= noneSum)
+		{
+			return subRow;
+		}
+		return upSum <= noneSum ? upRow : noneRow;
+	}
+
+	private void deflate(DataOutputStream out, byte[] data, int length) throws IOException
+	{
+		deflater.setInput(data, 0, length);
+		while (!deflater.needsInput())
+		{
+			drain(out);
+		}
+	}
+
+	private void drain(DataOutputStream out) throws IOException
+	{
+		chunkLength += deflater.deflate(chunk, chunkLength, CHUNK_SIZE - chunkLength);
+		if (chunkLength == CHUNK_SIZE)
+		{
+			writeChunk(out, "IDAT");
+		}
+	}
+
+	private void writeChunk(DataOutputStream out, String type) throws IOException
+	{
+		crc.reset();
+		for (int i = 0; i < 4; ++i)
+		{
+			crc.update(type.charAt(i));
+		}
+		crc.update(chunk, 0, chunkLength);
+
+		out.writeInt(chunkLength);
+		out.writeBytes(type);
+		out.write(chunk, 0, chunkLength);
+		out.writeInt((int) crc.getValue());
+		chunkLength = 0;
+	}
+
+	private void putInt(int i)
+	{
+		putByte(i >>> 24);
+		putByte(i >>> 16);
+		putByte(i >>> 8);
+		putByte(i);
+	}
+
+	private void putByte(int b)
+	{
+		chunk[chunkLength++] = (byte) b;
+	}
+}
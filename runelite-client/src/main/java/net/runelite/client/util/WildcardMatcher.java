@@ -24,34 +24,87 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Matches text against patterns in which {@code *} matches any run of characters. Matching is
+ * case-insensitive for ASCII characters and must cover the whole text.
+ *
+ * @see WildcardSet for matching against many patterns at once
+ */
 public class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*+)");
+	private static final Pattern WILDCARD_PATTERN = Pattern.compile("\\*+");
 
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuilder buffer = new StringBuilder();
+		if (pattern.indexOf('*') == -1)
+		{
+			return fold(pattern).equals(fold(text));
+		}
+
+		return matches(compile(pattern), fold(text));
+	}
+
+	/**
+	 * Compile a pattern containing a wildcard into the literal segments between its wildcards,
+	 * case folded. A pattern starting or ending with a wildcard has an empty first or last segment.
+	 */
+	static String[] compile(String pattern)
+	{
+		return WILDCARD_PATTERN.split(fold(pattern), -1);
+	}
+
+	/**
+	 * Match case folded text against a compiled pattern. The first and last segments are anchored to
+	 * the start and end of the text, and the others are matched left to right at their first
+	 * occurrence, which is sufficient since a wildcard can absorb anything skipped over.
+	 */
+	static boolean matches(String[] segments, String text)
+	{
+		final String first = segments[0];
+		final String last = segments[segments.length - 1];
+		final int end = text.length() - last.length();
+		if (end < first.length() || !text.startsWith(first) || !text.endsWith(last))
+		{
+			return false;
+		}
 
-		buffer.append("(?i)");
-		while (matcher.find())
+		int pos = first.length();
+		for (int i = 1; i < segments.length - 1; ++i)
 		{
-			if (matcher.group(1) != null)
+			final String segment = segments[i];
+			final int idx = text.indexOf(segment, pos);
+			if (idx == -1 || idx + segment.length() > end)
 			{
-				matcher.appendReplacement(buffer, ".*");
+				return false;
 			}
-			else
+			pos = idx + segment.length();
+		}
+		return true;
+	}
+
+	/**
+	 * Lowercase ASCII characters only, as case-insensitive regex matching does by default.
+	 */
+	static String fold(String s)
+	{
+		for (int i = 0; i < s.length(); ++i)
+		{
+			final char c = s.charAt(i);
+			if (c >= 'A' && c <= 'Z')
 			{
-				matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+				final char[] chars = s.toCharArray();
+				for (int j = i; j < chars.length; ++j)
+				{
+					if (chars[j] >= 'A' && chars[j] <= 'Z')
+					{
+						chars[j] += 'a' - 'A';
+					}
+				}
+				return new String(chars);
 			}
 		}
-
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
-
-		return text.matches(replaced);
+		return s;
 	}
 }
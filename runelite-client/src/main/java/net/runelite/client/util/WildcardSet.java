@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * A set of wildcard patterns compiled for matching against repeatedly, such as a list of names
+ * from a config. Patterns without a wildcard are matched with a hash lookup, and the verdicts for
+ * recently matched text are cached.
+ *
+ * @see WildcardMatcher
+ */
+public class WildcardSet
+{
+	private static final int MAX_CACHED_VERDICTS = 4096;
+
+	private static final byte NO_MATCH = 0;
+	private static final byte EXACT_MATCH = 1;
+	private static final byte WILDCARD_MATCH = 2;
+
+	private final Set<String> exact = new HashSet<>();
+	private final List<String[]> wildcards = new ArrayList<>();
+	private final Map<String, Byte> verdicts = new ConcurrentHashMap<>();
+	// every pattern in the order given, exact patterns as a single segment
+	private final String[][] patterns;
+
+	private WildcardSet(Collection<String> patterns)
+	{
+		this.patterns = new String[patterns.size()][];
+		int i = 0;
+		for (String pattern : patterns)
+		{
+			if (pattern.indexOf('*') == -1)
+			{
+				final String folded = WildcardMatcher.fold(pattern);
+				exact.add(folded);
+				this.patterns[i++] = new String[]{folded};
+			}
+			else
+			{
+				final String[] compiled = WildcardMatcher.compile(pattern);
+				wildcards.add(compiled);
+				this.patterns[i++] = compiled;
+			}
+		}
+	}
+
+	public static WildcardSet of(Collection<String> patterns)
+	{
+		return new WildcardSet(patterns);
+	}
+
+	public boolean isEmpty()
+	{
+		return exact.isEmpty() && wildcards.isEmpty();
+	}
+
+	/**
+	 * Test if the text matches any of the patterns
+	 */
+	public boolean matches(String text)
+	{
+		return verdict(text) != NO_MATCH;
+	}
+
+	/**
+	 * Test if the text matches any of the patterns containing a wildcard
+	 */
+	public boolean matchesWildcard(String text)
+	{
+		final byte verdict = verdict(text);
+		if (verdict == EXACT_MATCH)
+		{
+			// the exact match takes precedence in the verdict, so check the wildcards separately
+			return matchesWildcard(WildcardMatcher.fold(text), wildcards);
+		}
+		return verdict == WILDCARD_MATCH;
+	}
+
+	/**
+	 * Test if the text matches any of the patterns accepted by the filter, which is passed the index
+	 * of each matching pattern in the collection the set was created from. Text matching none of the
+	 * patterns is rejected using the verdict cache before the filter is consulted.
+	 */
+	public boolean matches(String text, IntPredicate filter)
+	{
+		if (verdict(text) == NO_MATCH)
+		{
+			return false;
+		}
+
+		final String folded = WildcardMatcher.fold(text);
+		for (int i = 0; i < patterns.length; ++i)
+		{
+			final String[] pattern = patterns[i];
+			final boolean matches = pattern.length == 1
+				? pattern[0].equals(folded)
+				: WildcardMatcher.matches(pattern, folded);
+			if (matches && filter.test(i))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private byte verdict(String text)
+	{
+		Byte verdict = verdicts.get(text);
+		if (verdict != null)
+		{
+			return verdict;
+		}
+
+		final String folded = WildcardMatcher.fold(text);
+		final byte v = exact.contains(folded) ? EXACT_MATCH
+			: matchesWildcard(folded, wildcards) ? WILDCARD_MATCH
+			: NO_MATCH;
+
+		if (verdicts.size() >= MAX_CACHED_VERDICTS)
+		{
+			verdicts.clear();
+		}
+		verdicts.put(text, v);
+		return v;
+	}
+
+	private static boolean matchesWildcard(String folded, List<String[]> wildcards)
+	{
+		for (String[] wildcard : wildcards)
+		{
+			if (WildcardMatcher.matches(wildcard, folded))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+}
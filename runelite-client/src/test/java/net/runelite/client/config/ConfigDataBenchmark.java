@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Timings behind the numbers quoted for the config key index and the save journal. Each round runs
+ * both variants once, alternating which goes first, and the median and min over the rounds are logged.
+ */
+@Ignore
+@Slf4j
+public class ConfigDataBenchmark
+{
+	private static final int KEYS = 100_000;
+	private static final int GROUPS = 100;
+	private static final int WARMUP_ROUNDS = 50;
+	private static final int ROUNDS = 200;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ConfigData create(File file)
+	{
+		final ConfigData data = new ConfigData(file);
+		for (int i = 0; i < KEYS; ++i)
+		{
+			data.setProperty("group" + (i % GROUPS) + ".key" + i, "value");
+		}
+		return data;
+	}
+
+	@Test
+	public void benchmarkKeysWithPrefix()
+	{
+		final ConfigData data = create(new File(folder.getRoot(), "test.properties"));
+		final long[] index = new long[ROUNDS];
+		final long[] scan = new long[ROUNDS];
+
+		for (int i = -WARMUP_ROUNDS; i < ROUNDS; ++i)
+		{
+			final String prefix = "group" + Math.floorMod(i, GROUPS) + ".";
+			final boolean scanFirst = (i & 1) != 0;
+			final long first = keysWithPrefix(data, prefix, scanFirst);
+			final long second = keysWithPrefix(data, prefix, !scanFirst);
+
+			if (i >= 0)
+			{
+				index[i] = scanFirst ? second : first;
+				scan[i] = scanFirst ? first : second;
+			}
+		}
+
+		log.info("{} keys, {} matching: index median {}us (min {}us), scan median {}us (min {}us)",
+			KEYS, KEYS / GROUPS,
+			median(index) / 1_000L, min(index) / 1_000L,
+			median(scan) / 1_000L, min(scan) / 1_000L);
+	}
+
+	@Test
+	public void benchmarkSave()
+	{
+		final File file = new File(folder.getRoot(), "test.properties");
+		final ConfigData data = create(file);
+		// the first save writes the full properties file, later ones go to the journal
+		data.patch(data.swapChanges());
+
+		final long[] journal = new long[ROUNDS];
+		final long[] rewrite = new long[ROUNDS];
+
+		for (int i = -WARMUP_ROUNDS; i < ROUNDS; ++i)
+		{
+			final boolean rewriteFirst = (i & 1) != 0;
+			final long first = save(data, file, i, rewriteFirst);
+			final long second = save(data, file, i, !rewriteFirst);
+
+			if (i >= 0)
+			{
+				journal[i] = rewriteFirst ? second : first;
+				rewrite[i] = rewriteFirst ? first : second;
+			}
+		}
+
+		log.info("{} keys, one changed: journal median {}us (min {}us), rewrite median {}us (min {}us)",
+			KEYS,
+			median(journal) / 1_000L, min(journal) / 1_000L,
+			median(rewrite) / 1_000L, min(rewrite) / 1_000L);
+	}
+
+	private static long save(ConfigData data, File file, int round, boolean rewrite)
+	{
+		data.setProperty("group0.key0", (rewrite ? "rewrite" : "journal") + round);
+		if (!rewrite)
+		{
+			final long start = System.nanoTime();
+			data.patch(data.swapChanges());
+			return System.nanoTime() - start;
+		}
+
+		// compacting a single journaled change does what every save did before the journal: lock,
+		// load the properties file, apply the change, and store and fsync the whole file
+		data.patch(data.swapChanges());
+		final long start = System.nanoTime();
+		ConfigData.compact(file);
+		return System.nanoTime() - start;
+	}
+
+	private static long keysWithPrefix(ConfigData data, String prefix, boolean scan)
+	{
+		final long start = System.nanoTime();
+		final List<String> keys = scan
+			// the filter over every key used before the index
+			? data.keySet().stream().filter(k -> k.startsWith(prefix)).collect(Collectors.toList())
+			: data.keysWithPrefix(prefix);
+		final long time = System.nanoTime() - start;
+		assertEquals(KEYS / GROUPS, keys.size());
+		return time;
+	}
+
+	private static long median(long[] times)
+	{
+		final long[] sorted = times.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private static long min(long[] times)
+	{
+		return Arrays.stream(times).min().orElse(0L);
+	}
+}
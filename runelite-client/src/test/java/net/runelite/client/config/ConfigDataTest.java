@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testKeysWithPrefix()
+	{
+		ConfigData data = new ConfigData(new File(folder.getRoot(), "test.properties"));
+		for (int i = 0; i < 100_000; ++i)
+		{
+			data.setProperty("group" + (i % 100) + ".key" + i, "value");
+		}
+
+		assertPrefix(data, "group1.");
+		assertPrefix(data, "group42.key4");
+		assertPrefix(data, "group9");
+		assertTrue(data.keysWithPrefix("nope.").isEmpty());
+
+		data.unset("group1.key1");
+		data.setProperty("group1.zzz", "value");
+		data.setProperty("group1.zzz", "other");
+		assertPrefix(data, "group1.");
+		assertEquals(1000, data.keysWithPrefix("group1.").size());
+	}
+
+	@Test
+	public void testJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		File journal = ConfigData.journalFile(file);
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("group.a", "1");
+		data.setProperty("group.b", "2");
+		data.patch(data.swapChanges());
+		// the first save writes the full properties file
+		assertTrue(file.exists());
+		assertFalse(journal.exists());
+
+		data.setProperty("group.a", "multi\nline=value");
+		data.unset("group.b");
+		data.patch(data.swapChanges());
+		assertTrue(journal.exists());
+
+		ConfigData other = new ConfigData(file);
+		assertEquals("multi\nline=value", other.getProperty("group.a"));
+		assertNull(other.getProperty("group.b"));
+
+		// a record torn by a crash mid-write is ignored, and forces the next save to compact
+		try (FileOutputStream out = new FileOutputStream(journal, true))
+		{
+			out.write(new byte[]{0x52, 0x4c, 0x4a, 0x31, 0, 0, 0, 64, 1});
+		}
+		other = new ConfigData(file);
+		assertEquals("multi\nline=value", other.getProperty("group.a"));
+
+		other.setProperty("group.c", "3");
+		other.patch(other.swapChanges());
+		assertFalse(journal.exists());
+
+		data.setProperty("group.d", "4");
+		data.patch(data.swapChanges());
+		ConfigData.compact(file);
+		assertFalse(journal.exists());
+
+		other = new ConfigData(file);
+		assertEquals("multi\nline=value", other.getProperty("group.a"));
+		assertEquals("3", other.getProperty("group.c"));
+		assertEquals("4", other.getProperty("group.d"));
+	}
+
+	private static void assertPrefix(ConfigData data, String prefix)
+	{
+		List<String> expected = data.keySet().stream()
+			.filter(k -> k.startsWith(prefix))
+			.sorted()
+			.collect(Collectors.toList());
+		assertEquals(expected, data.keysWithPrefix(prefix));
+	}
+}
@@ -145,6 +145,22 @@ public class ConfigManagerTest
 		Assert.assertEquals("new value", conf.key());
 	}
 
+	@Test
+	public void testConfigCache()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+		Assert.assertEquals("default", conf.key());
+		Assert.assertEquals(1, manager.getConfigCacheStats().hitCount());
+
+		manager.setConfiguration("test", "key", "moo");
+		Assert.assertEquals("moo", conf.key());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+		Assert.assertEquals(3, manager.getConfigCacheStats().missCount());
+	}
+
 	@Test
 	public void testGetConfigDescriptor() throws IOException
 	{
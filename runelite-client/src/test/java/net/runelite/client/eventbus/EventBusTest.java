@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	public static class TestEvent
+	{
+		private final int value;
+
+		TestEvent(int value)
+		{
+			this.value = value;
+		}
+	}
+
+	public static class AsyncSubscriber
+	{
+		private final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		private volatile CountDownLatch latch = new CountDownLatch(0);
+
+		@Subscribe(async = true)
+		public void onTestEvent(TestEvent event)
+		{
+			received.add(event.value);
+			latch.countDown();
+		}
+	}
+
+	// runs async deliveries only when told to
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private final EventBus eventBus = new EventBus(e ->
+	{
+		throw new AssertionError(e);
+	}, tasks::add);
+
+	private void runTasks()
+	{
+		Runnable task;
+		while ((task = tasks.poll()) != null)
+		{
+			task.run();
+		}
+	}
+
+	@Test
+	public void testAsyncOrdering() throws InterruptedException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			EventBus eventBus = new EventBus(e ->
+			{
+				throw new AssertionError(e);
+			}, executor);
+
+			List<AsyncSubscriber> subscribers = new ArrayList<>();
+			for (int i = 0; i < 4; ++i)
+			{
+				AsyncSubscriber subscriber = new AsyncSubscriber();
+				subscriber.latch = new CountDownLatch(1000);
+				eventBus.register(subscriber);
+				subscribers.add(subscriber);
+			}
+
+			// fewer events than fit in the queue, so none are dropped
+			for (int i = 0; i < 1000; ++i)
+			{
+				eventBus.post(new TestEvent(i));
+			}
+
+			for (AsyncSubscriber subscriber : subscribers)
+			{
+				assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS));
+				for (int i = 0; i < 1000; ++i)
+				{
+					assertEquals(i, (int) subscriber.received.get(i));
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testAsyncOverflow()
+	{
+		AsyncSubscriber subscriber = new AsyncSubscriber();
+		eventBus.register(subscriber);
+
+		for (int i = 0; i < 1034; ++i)
+		{
+			eventBus.post(new TestEvent(i));
+		}
+
+		// only one drain is scheduled however many events are queued
+		assertEquals(1, tasks.size());
+		assertTrue(subscriber.received.isEmpty());
+
+		List<EventBus.SubscriberTiming> timings = eventBus.getTimings();
+		assertEquals(1, timings.size());
+		assertEquals(1024, timings.get(0).getQueued());
+		assertEquals(10, timings.get(0).getDropped());
+
+		runTasks();
+
+		assertEquals(1024, subscriber.received.size());
+		for (int i = 0; i < 1024; ++i)
+		{
+			assertEquals(i, (int) subscriber.received.get(i));
+		}
+		assertEquals(0, eventBus.getTimings().get(0).getQueued());
+
+		// there is room again
+		eventBus.post(new TestEvent(2000));
+		runTasks();
+		assertEquals(2000, (int) subscriber.received.get(1024));
+	}
+
+	@Test
+	public void testAsyncUnregister()
+	{
+		AsyncSubscriber subscriber = new AsyncSubscriber();
+		eventBus.register(subscriber);
+
+		eventBus.post(new TestEvent(1));
+		runTasks();
+		assertEquals(Collections.singletonList(1), subscriber.received);
+
+		// queued but not yet delivered
+		eventBus.post(new TestEvent(2));
+		eventBus.unregister(subscriber);
+		eventBus.post(new TestEvent(3));
+		runTasks();
+
+		assertEquals(Collections.singletonList(1), subscriber.received);
+	}
+}
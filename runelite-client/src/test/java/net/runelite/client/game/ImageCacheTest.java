@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.events.ConfigChanged;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ImageCacheTest
+{
+	@Mock
+	private RuneLiteConfig runeLiteConfig;
+
+	@Mock
+	private EventBus eventBus;
+
+	@Test
+	public void testWeight() throws Exception
+	{
+		when(runeLiteConfig.imageCacheSize()).thenReturn(1);
+		ImageCache imageCache = new ImageCache(runeLiteConfig, eventBus);
+
+		BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+		assertSame(image, imageCache.get(0L, () -> image));
+		assertSame(image, imageCache.get(0L, () -> null));
+		assertEquals(64 * 64 * 4, imageCache.getWeight());
+
+		// 128 images of 16KB each is twice the 1MB budget
+		for (long i = 1; i <= 128; ++i)
+		{
+			imageCache.put(i, new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB));
+		}
+		assertTrue(imageCache.getWeight() <= 1024 * 1024);
+		assertTrue(imageCache.getStats().evictionCount() > 0);
+		assertEquals(1, imageCache.getStats().hitCount());
+
+		// resizing keeps the stats but drops the images
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(RuneLiteConfig.GROUP_NAME);
+		configChanged.setKey("imageCacheSize");
+		imageCache.onConfigChanged(configChanged);
+		assertNull(imageCache.getIfPresent(128L));
+		assertEquals(1, imageCache.getStats().hitCount());
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.runelite.http.api.item.ItemPrice;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemClientTest
+{
+	@Rule
+	public MockWebServer server = new MockWebServer();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ItemClient itemClient;
+
+	@Before
+	public void before()
+	{
+		itemClient = new ItemClient(new OkHttpClient(), server.url("/"), server.url("/"), new Gson());
+	}
+
+	@Test
+	public void testConditionalPrices() throws IOException, InterruptedException
+	{
+		server.enqueue(new MockResponse()
+			.setHeader("ETag", "\"v1\"")
+			.setBody("[{\"id\":4151,\"name\":\"Abyssal whip\",\"price\":1500000,\"wikiPrice\":1600000}]"));
+
+		ItemData<ItemPrice[]> prices = itemClient.getPrices(null);
+		assertEquals(1, prices.getData().length);
+		assertEquals("Abyssal whip", prices.getData()[0].getName());
+		assertEquals("\"v1\"", prices.getEtag());
+
+		RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+		assertEquals("/item/prices.js", request.getPath());
+		assertNull(request.getHeader("If-None-Match"));
+
+		// cache the prices to disk and refresh them conditionally
+		ItemDataCache cache = new ItemDataCache(folder.getRoot());
+		cache.writePrices(new ItemData<>(ItemIdTable.of(prices.getData(), ItemPrice::getId), prices.getEtag(), prices.getLastModified()));
+		ItemData<ItemIdTable<ItemPrice>> cached = cache.readPrices();
+		assertEquals(1_600_000, cached.getData().get(4151).getWikiPrice());
+
+		server.enqueue(new MockResponse()
+			.setResponseCode(304));
+
+		prices = itemClient.getPrices(cached);
+		assertNull(prices.getData());
+		assertEquals("\"v1\"", prices.getEtag());
+
+		request = server.takeRequest(1, TimeUnit.SECONDS);
+		assertEquals("\"v1\"", request.getHeader("If-None-Match"));
+	}
+}
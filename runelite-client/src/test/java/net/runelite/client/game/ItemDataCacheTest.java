@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemDataCacheTest
+{
+	// magic, version, and the null etag and last modified
+	private static final int COUNT_OFFSET = 16;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ItemDataCache cache;
+	private File pricesFile;
+
+	@Before
+	public void before()
+	{
+		cache = new ItemDataCache(folder.getRoot());
+		pricesFile = new File(folder.getRoot(), "items/prices.bin");
+
+		ItemPrice[] prices = new ItemPrice[2];
+		for (int i = 0; i < prices.length; ++i)
+		{
+			prices[i] = new ItemPrice();
+			prices[i].setId(i + 1);
+			prices[i].setName("a long enough item name " + i);
+		}
+		cache.writePrices(new ItemData<>(ItemIdTable.of(prices, ItemPrice::getId), null, null));
+	}
+
+	@Test
+	public void testRead()
+	{
+		assertEquals(2, cache.readPrices().getData().size());
+	}
+
+	@Test
+	public void testBadCount() throws IOException
+	{
+		writeInt(COUNT_OFFSET, -1);
+		assertNull(cache.readPrices());
+
+		writeInt(COUNT_OFFSET, Integer.MAX_VALUE);
+		assertNull(cache.readPrices());
+
+		// more entries than the file holds, but few enough to pass the size check
+		writeInt(COUNT_OFFSET, 3);
+		assertNull(cache.readPrices());
+	}
+
+	@Test
+	public void testBadNameLength() throws IOException
+	{
+		// the first entry's name length, after its id, price and wiki price
+		writeInt(COUNT_OFFSET + 4 + 12, Integer.MAX_VALUE);
+		assertNull(cache.readPrices());
+	}
+
+	private void writeInt(long offset, int value) throws IOException
+	{
+		try (RandomAccessFile file = new RandomAccessFile(pricesFile, "rw"))
+		{
+			file.seek(offset);
+			file.writeInt(value);
+		}
+	}
+}
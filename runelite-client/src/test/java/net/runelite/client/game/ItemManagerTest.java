@@ -68,6 +68,10 @@ public class ItemManagerTest
 	@Bind
 	private RuneLiteConfig runeLiteConfig;
 
+	@Mock
+	@Bind
+	private ItemDataCache itemDataCache;
+
 	@Bind
 	@Named("activePriceThreshold")
 	private double activePriceThreshold = 5;
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares searching item names through the trigram index with the scan over every name that
+ * ItemManager.search did before it. Each round runs both once per query, alternating which goes
+ * first, and the median and min over the rounds are logged for each query.
+ */
+@Ignore
+@Slf4j
+public class ItemSearchIndexBenchmark
+{
+	private static final int ITEMS = 4_000;
+	private static final int WARMUP_ROUNDS = 500;
+	private static final int ROUNDS = 2_000;
+
+	private static final String[] WORDS = {
+		"abyssal", "adamant", "amulet", "arrow", "axe", "bandos", "black", "blessed", "body", "boots",
+		"bronze", "cape", "chainbody", "crossbow", "dagger", "dragon", "dragonhide", "gloves", "guam",
+		"hat", "helm", "iron", "kiteshield", "leaf", "legs", "longsword", "mithril", "platebody",
+		"platelegs", "potion", "ring", "robe", "rune", "scimitar", "seed", "shield", "staff", "steel",
+		"sword", "top", "unfinished", "warhammer",
+	};
+
+	private static final String[] QUERIES = {
+		"r", "dr", "rune", "platebody", "dragon sc", "mithril kiteshield", "zulrah",
+	};
+
+	@Test
+	public void benchmarkSearch()
+	{
+		final List<ItemPrice> prices = createItems();
+		final ItemSearchIndex index = new ItemSearchIndex(prices);
+
+		for (String query : QUERIES)
+		{
+			final long[] indexed = new long[ROUNDS];
+			final long[] scanned = new long[ROUNDS];
+
+			for (int i = -WARMUP_ROUNDS; i < ROUNDS; ++i)
+			{
+				final boolean scanFirst = (i & 1) != 0;
+				final long first = search(index, prices, query, scanFirst);
+				final long second = search(index, prices, query, !scanFirst);
+
+				if (i >= 0)
+				{
+					indexed[i] = scanFirst ? second : first;
+					scanned[i] = scanFirst ? first : second;
+				}
+			}
+
+			log.info("{} items, \"{}\" ({} matches): index median {}ns (min {}ns), scan median {}ns (min {}ns)",
+				ITEMS, query, index.search(query).size(),
+				median(indexed), min(indexed), median(scanned), min(scanned));
+		}
+	}
+
+	private static List<ItemPrice> createItems()
+	{
+		final Random random = new Random(42);
+		final List<ItemPrice> prices = new ArrayList<>(ITEMS);
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			final StringBuilder name = new StringBuilder();
+			final int words = 1 + random.nextInt(3);
+			for (int w = 0; w < words; ++w)
+			{
+				final String word = WORDS[random.nextInt(WORDS.length)];
+				name.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : " " + word);
+			}
+
+			final ItemPrice itemPrice = new ItemPrice();
+			itemPrice.setId(i);
+			itemPrice.setName(name.toString());
+			prices.add(itemPrice);
+		}
+		return prices;
+	}
+
+	private static long search(ItemSearchIndex index, List<ItemPrice> prices, String query, boolean scan)
+	{
+		final long start = System.nanoTime();
+		final List<ItemPrice> result = scan ? scan(prices, query) : index.search(query);
+		final long time = System.nanoTime() - start;
+		// the index ranks its results, so only the counts are comparable
+		assertEquals(scan(prices, query).size(), result.size());
+		return time;
+	}
+
+	// ItemManager.search before the index
+	private static List<ItemPrice> scan(List<ItemPrice> prices, String itemName)
+	{
+		itemName = itemName.toLowerCase();
+
+		List<ItemPrice> result = new ArrayList<>();
+		for (ItemPrice itemPrice : prices)
+		{
+			final String name = itemPrice.getName();
+			if (name.toLowerCase().contains(itemName))
+			{
+				result.add(itemPrice);
+			}
+		}
+		return result;
+	}
+
+	private static long median(long[] times)
+	{
+		final long[] sorted = times.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private static long min(long[] times)
+	{
+		return Arrays.stream(times).min().orElse(0L);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ItemSearchIndexTest
+{
+	@Test
+	public void testSearch()
+	{
+		ItemSearchIndex index = new ItemSearchIndex(Arrays.asList(
+			item(1, "Xguam leaf"),
+			item(2, "Grimy guam leaf"),
+			item(3, "Guam leaf seed"),
+			item(4, "Guam leaf"),
+			item(5, "Rune platebody")
+		));
+
+		assertEquals(Arrays.asList(4, 3, 2, 1), ids(index.search("GUAM LEAF")));
+		assertEquals(Arrays.asList(5), ids(index.search("rune pl")));
+		assertEquals(Arrays.asList(1, 2, 3, 4), ids(index.search("uam")));
+		assertTrue(index.search("dragon").isEmpty());
+		assertTrue(ItemSearchIndex.EMPTY.search("guam").isEmpty());
+	}
+
+	private static ItemPrice item(int id, String name)
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(id);
+		itemPrice.setName(name);
+		return itemPrice;
+	}
+
+	private static List<Integer> ids(List<ItemPrice> items)
+	{
+		return items.stream()
+			.map(ItemPrice::getId)
+			.collect(Collectors.toList());
+	}
+}
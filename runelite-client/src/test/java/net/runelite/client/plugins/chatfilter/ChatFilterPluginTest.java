@@ -137,6 +137,28 @@ public class ChatFilterPluginTest
 		assertEquals("w***s up", chatFilterPlugin.censorMessage("Blue", "whats up"));
 	}
 
+	@Test
+	public void testCensorOverlappingWords()
+	{
+		when(chatFilterConfig.filteredWords()).thenReturn("abc,bcd,aa");
+
+		chatFilterPlugin.updateFilteredPatterns();
+		assertEquals("**** **A", chatFilterPlugin.censorMessage("Blue", "abcd AAA"));
+	}
+
+	@Test
+	public void testCensorWordsAndRegexes()
+	{
+		when(chatFilterConfig.filteredWords()).thenReturn("gp");
+		when(chatFilterConfig.filteredRegex()).thenReturn("(\\w)\\1{2,}\n[0-9]+m");
+
+		chatFilterPlugin.updateFilteredPatterns();
+		assertEquals("selling *** ** for ***", chatFilterPlugin.censorMessage("Blue", "selling 10m gp for zzz"));
+		// repeated messages are served from the verdict cache
+		assertEquals("selling *** ** for ***", chatFilterPlugin.censorMessage("Blue", "selling 10m gp for zzz"));
+		assertEquals("nothing here", chatFilterPlugin.censorMessage("Blue", "nothing here"));
+	}
+
 	@Test
 	public void testCensorRegex()
 	{
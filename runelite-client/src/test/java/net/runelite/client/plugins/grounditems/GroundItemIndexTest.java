@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.api.ItemLayer;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GroundItemIndexTest
+{
+	private static GroundItem item(int id, boolean topLevel)
+	{
+		WorldView wv = mock(WorldView.class);
+		when(wv.isTopLevel()).thenReturn(topLevel);
+		ItemLayer layer = mock(ItemLayer.class);
+		when(layer.getWorldView()).thenReturn(wv);
+		return GroundItem.builder()
+			.id(id)
+			.itemLayer(layer)
+			.build();
+	}
+
+	private static List<GroundItem> query(GroundItemIndex index, WorldPoint center, int radius)
+	{
+		List<GroundItem> out = new ArrayList<>();
+		index.query(center, radius, out);
+		return out;
+	}
+
+	@Test
+	public void testQuery()
+	{
+		GroundItemIndex index = new GroundItemIndex();
+		WorldPoint near = new WorldPoint(3200, 3200, 0);
+		WorldPoint upstairs = new WorldPoint(3205, 3195, 1);
+		WorldPoint far = new WorldPoint(3300, 3200, 0);
+		WorldPoint deck = new WorldPoint(10, 10, 0);
+
+		GroundItem a = item(1, true);
+		GroundItem b = item(2, true);
+		GroundItem c = item(3, true);
+		GroundItem d = item(4, true);
+		GroundItem boat = item(5, false);
+		index.put(near, 1, a);
+		index.put(near, 2, b);
+		index.put(upstairs, 3, c);
+		index.put(far, 4, d);
+		index.put(deck, 5, boat);
+
+		assertEquals(Arrays.asList(boat, a, b, c), query(index, new WorldPoint(3210, 3210, 0), 20));
+		assertEquals(Arrays.asList(boat, d), query(index, new WorldPoint(3290, 3200, 2), 20));
+		assertEquals(Arrays.asList(a, b), new ArrayList<>(index.at(near)));
+
+		index.remove(near, 1);
+		index.remove(near, 2);
+		assertNull(index.get(near, 1));
+		assertEquals(Arrays.asList(boat, c), query(index, new WorldPoint(3210, 3210, 0), 20));
+
+		index.removeIf(i -> i == boat);
+		assertEquals(Collections.singletonList(c), query(index, new WorldPoint(3210, 3210, 0), 20));
+		assertEquals(Collections.singletonList(d), query(index, new WorldPoint(3290, 3200, 0), 20));
+
+		index.clear();
+		assertTrue(query(index, new WorldPoint(3210, 3210, 0), 20).isEmpty());
+	}
+}
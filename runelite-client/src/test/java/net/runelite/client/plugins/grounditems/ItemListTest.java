@@ -64,6 +64,18 @@ public class ItemListTest
 		assertNotEquals(ItemList.NONE, loader.matches(item("Rune Longsword", 2)));
 	}
 
+	@Test
+	public void testLoadQuantityRanges()
+	{
+		ItemList loader = new ItemList(Arrays.asList("rune* < 3", "rune* > 10", "*rune"));
+		assertEquals(ItemList.WILDCARD, loader.matches(item("Rune pouch", 2)));
+		assertEquals(ItemList.NONE, loader.matches(item("Rune pouch", 5)));
+		assertEquals(ItemList.WILDCARD, loader.matches(item("Rune pouch", 20)));
+		// the cached verdict for the name must not skip the quantity check
+		assertEquals(ItemList.WILDCARD, loader.matches(item("Rune pouch", 2)));
+		assertEquals(ItemList.WILDCARD, loader.matches(item("Nature rune", 5)));
+	}
+
 	@Test(timeout = 1000)
 	public void testExplosive()
 	{
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MenuEntryCollapserTest
+{
+	private static MenuEntry entry(MenuAction type, int identifier, int x, int y)
+	{
+		MenuEntry entry = mock(MenuEntry.class);
+		when(entry.getType()).thenReturn(type);
+		when(entry.getIdentifier()).thenReturn(identifier);
+		when(entry.getParam0()).thenReturn(x);
+		when(entry.getParam1()).thenReturn(y);
+		return entry;
+	}
+
+	@Test
+	public void testCollapse()
+	{
+		MenuEntry walk = mock(MenuEntry.class);
+		when(walk.getType()).thenReturn(MenuAction.WALK);
+		MenuEntry coins = entry(MenuAction.GROUND_ITEM_THIRD_OPTION, 995, 50, 50);
+		MenuEntry bones = entry(MenuAction.GROUND_ITEM_THIRD_OPTION, 526, 50, 50);
+		when(coins.getTarget()).thenReturn("Coins");
+
+		MenuEntryCollapser collapser = new MenuEntryCollapser();
+		MenuEntry[] collapsed = collapser.collapse(new MenuEntry[]{walk, coins, bones, coins, coins});
+		assertArrayEquals(new MenuEntry[]{walk, bones, coins}, collapsed);
+		verify(coins).setTarget("Coins x 3");
+		verify(bones, never()).setTarget(anyString());
+
+		// an already collapsed menu is left alone
+		assertNull(collapser.collapse(collapsed));
+	}
+}
@@ -29,6 +29,7 @@ import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.util.Arrays;
+import java.util.Collections;
 import net.runelite.api.Client;
 import net.runelite.api.KeyCode;
 import net.runelite.api.Menu;
@@ -40,6 +41,7 @@ import net.runelite.api.ObjectComposition;
 import net.runelite.api.events.PostMenuSort;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.TestMenuEntry;
 import org.junit.After;
@@ -54,6 +56,7 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -385,4 +388,64 @@ public class MenuEntrySwapperPluginTest
 			menu("Last-destination (AIQ)", "Fairy ring", MenuAction.GAME_OBJECT_SECOND_OPTION),
 		}, argumentCaptor.getValue());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testConfigChanged()
+	{
+		entries = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Bank", "Gnome banker", MenuAction.NPC_THIRD_OPTION),
+			menu("Talk-to", "Gnome banker", MenuAction.NPC_FIRST_OPTION),
+		};
+
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+
+		// the swaps are compiled, so changing the config has no effect until the change is posted
+		when(config.swapBank()).thenReturn(true);
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+		verify(menu, never()).setMenuEntries(any(MenuEntry[].class));
+
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(MenuEntrySwapperConfig.GROUP);
+		configChanged.setKey("swapBank");
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+
+		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
+		verify(menu).setMenuEntries(argumentCaptor.capture());
+
+		assertArrayEquals(new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Talk-to", "Gnome banker", MenuAction.NPC_FIRST_OPTION),
+			menu("Bank", "Gnome banker", MenuAction.NPC_THIRD_OPTION),
+		}, argumentCaptor.getValue());
+	}
+
+	@Test
+	public void testCustomNpcSwap()
+	{
+		when(npc.getTransformedComposition().getId()).thenReturn(123);
+		when(configManager.getConfigurationKeys(MenuEntrySwapperConfig.GROUP + "."))
+			.thenReturn(Collections.singletonList(MenuEntrySwapperConfig.GROUP + ".npc_123"));
+		when(configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, "npc_123")).thenReturn("2");
+
+		entries = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Walk here", "", MenuAction.WALK),
+			menu("Bank", "Gnome banker", MenuAction.NPC_THIRD_OPTION),
+			menu("Talk-to", "Gnome banker", MenuAction.NPC_FIRST_OPTION),
+		};
+
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+
+		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
+		verify(menu).setMenuEntries(argumentCaptor.capture());
+
+		assertArrayEquals(new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Walk here", "", MenuAction.WALK),
+			menu("Talk-to", "Gnome banker", MenuAction.NPC_FIRST_OPTION),
+			menu("Bank", "Gnome banker", MenuAction.NPC_THIRD_OPTION),
+		}, argumentCaptor.getValue());
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.http.api.worlds.World;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WorldPingerTest
+{
+	private static final int WORLDS = 32;
+	private static final int CONCURRENCY = 8;
+
+	private final List<ServerSocket> listeners = new ArrayList<>();
+	private WorldPinger worldPinger;
+
+	@After
+	public void after() throws IOException
+	{
+		if (worldPinger != null)
+		{
+			worldPinger.shutdown();
+		}
+
+		for (ServerSocket listener : listeners)
+		{
+			listener.close();
+		}
+	}
+
+	@Test
+	public void testPingAll() throws Exception
+	{
+		// each world is pinged by timing a connect to its own local listener
+		final int[] ports = new int[WORLDS];
+		final List<World> worlds = new ArrayList<>();
+		for (int i = 0; i < WORLDS; ++i)
+		{
+			ServerSocket listener = new ServerSocket(0);
+			listeners.add(listener);
+			ports[i] = listener.getLocalPort();
+			worlds.add(World.builder()
+				.id(i)
+				.address("127.0.0.1")
+				.build());
+		}
+		// the last world is down
+		listeners.get(WORLDS - 1).close();
+
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+		worldPinger = new WorldPinger((world, timeout) ->
+		{
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try (Socket socket = new Socket())
+			{
+				long start = System.nanoTime();
+				socket.connect(new InetSocketAddress(world.getAddress(), ports[world.getId()]), timeout);
+				// hold the ping in flight for long enough for the others to start
+				Thread.sleep(50);
+				return (int) ((System.nanoTime() - start) / 1_000_000L);
+			}
+			catch (IOException ex)
+			{
+				return -1;
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				return -1;
+			}
+			finally
+			{
+				inFlight.decrementAndGet();
+			}
+		}, CONCURRENCY, 1000);
+
+		final Map<Integer, WorldPinger.WorldPing> pings = new HashMap<>();
+		final AtomicInteger batches = new AtomicInteger();
+		worldPinger.pingAll(worlds, 10_000, batch ->
+		{
+			batches.incrementAndGet();
+			pings.putAll(batch);
+		});
+
+		assertEquals(WORLDS, pings.size());
+		assertEquals(1, batches.get());
+		assertTrue(maxInFlight.get() > 1);
+		assertTrue(maxInFlight.get() <= CONCURRENCY);
+
+		for (int i = 0; i < WORLDS - 1; ++i)
+		{
+			assertTrue(pings.get(i).getPing() >= 50);
+			assertEquals(pings.get(i), worldPinger.getPing(i));
+		}
+		assertEquals(WorldPinger.WorldPing.UNREACHABLE, pings.get(WORLDS - 1));
+	}
+
+	@Test
+	public void testSmoothing()
+	{
+		worldPinger = new WorldPinger((world, timeout) -> -1, 1, 1000);
+		assertNull(worldPinger.getPing(1));
+
+		assertEquals(100, worldPinger.record(1, 100).getPing());
+
+		WorldPinger.WorldPing ping = worldPinger.record(1, 200);
+		assertEquals(125, ping.getPing());
+		assertEquals(100 / 16.0, ping.getJitter(), 0.001);
+		assertEquals(200, ping.getLast());
+
+		ping = worldPinger.record(1, 100);
+		assertEquals(119, ping.getPing()); // 118.75
+		assertEquals(100 / 16.0 + (100 - 100 / 16.0) / 16.0, ping.getJitter(), 0.001);
+
+		// isolated losses keep the smoothed ping and jitter
+		final double jitter = ping.getJitter();
+		ping = worldPinger.record(1, -1);
+		assertEquals(119, ping.getPing());
+		assertEquals(jitter, ping.getJitter(), 0.001);
+		assertEquals(1, ping.getLosses());
+		ping = worldPinger.record(1, -1);
+		assertEquals(119, ping.getPing());
+		assertEquals(2, ping.getLosses());
+
+		// and the next ping carries on from them
+		ping = worldPinger.record(1, 140);
+		assertEquals(124, ping.getPing()); // 124.0625
+		assertEquals(jitter + (40 - jitter) / 16.0, ping.getJitter(), 0.001);
+		assertEquals(0, ping.getLosses());
+
+		// until enough consecutive pings fail
+		worldPinger.record(1, -1);
+		worldPinger.record(1, -1);
+		assertEquals(WorldPinger.WorldPing.UNREACHABLE, worldPinger.record(1, -1));
+		assertEquals(-1, worldPinger.getPing(1).getPing());
+		assertEquals(80, worldPinger.record(1, 80).getPing());
+		assertEquals(0, worldPinger.getPing(1).getJitter(), 0.001);
+
+		// a world which has never been reached is unreachable straight away
+		assertEquals(WorldPinger.WorldPing.UNREACHABLE, worldPinger.record(2, -1));
+	}
+}
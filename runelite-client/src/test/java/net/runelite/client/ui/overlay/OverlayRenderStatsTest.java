@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class OverlayRenderStatsTest
+{
+	@Test
+	public void testBuckets()
+	{
+		for (long nanos = 0; nanos < 1_000_000_000L; nanos = nanos * 11 / 10 + 1)
+		{
+			long midpoint = OverlayRenderStats.midpoint(OverlayRenderStats.bucket(nanos));
+			assertTrue(Math.abs(midpoint - nanos) <= nanos / 16 + 1);
+		}
+	}
+
+	@Test
+	public void testPercentile()
+	{
+		OverlayRenderStats stats = new OverlayRenderStats();
+		for (int i = 1; i <= 1000; ++i)
+		{
+			stats.record(i * 1000L);
+		}
+
+		assertEquals(1000, stats.getSamples());
+		assertEquals(1_000_000L, stats.getMaxNanos());
+		assertEquals(500_000L, stats.percentile(0.5), 500_000L / 16);
+		assertEquals(990_000L, stats.percentile(0.99), 990_000L / 16);
+
+		stats.reset();
+		assertEquals(0, stats.getSamples());
+		assertEquals(0L, stats.percentile(0.5));
+	}
+
+	@Test
+	public void testBudget()
+	{
+		OverlayRenderStats stats = new OverlayRenderStats();
+		for (int i = 0; i < 4; ++i)
+		{
+			assertFalse(stats.checkBudget(true));
+		}
+		// a render within budget resets the strikes
+		assertFalse(stats.checkBudget(false));
+		for (int i = 0; i < 4; ++i)
+		{
+			assertFalse(stats.checkBudget(true));
+		}
+		assertFalse(stats.skip());
+		assertTrue(stats.checkBudget(true));
+
+		assertTrue(stats.skip());
+		assertEquals(1, stats.getSkipped());
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.input.MouseManager;
+import net.runelite.client.ui.ClientUI;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OverlayRendererTest
+{
+	@Inject
+	private OverlayRenderer overlayRenderer;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private OverlayManager overlayManager;
+
+	@Mock
+	@Bind
+	private RuneLiteConfig runeLiteConfig;
+
+	@Mock
+	@Bind
+	private MouseManager mouseManager;
+
+	@Mock
+	@Bind
+	private KeyManager keyManager;
+
+	@Mock
+	@Bind
+	private ClientUI clientUI;
+
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Mock
+	@Bind
+	private ChatMessageManager chatMessageManager;
+
+	@Mock
+	@Bind
+	private OverlayProfiler overlayProfiler;
+
+	private final BufferedImage canvas = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+	private final RenderingHints renderingHints = new RenderingHints(null);
+
+	private static class CountingOverlay extends Overlay
+	{
+		private int renders;
+
+		CountingOverlay()
+		{
+			setCacheable(true);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(Color.RED);
+			graphics.fillRect(0, 0, 10, 10);
+			return new Dimension(10, 10);
+		}
+	}
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	private void frame(Overlay overlay, Point point)
+	{
+		final Graphics2D graphics = canvas.createGraphics();
+		try
+		{
+			overlayRenderer.renderCached(overlay, graphics, point, renderingHints);
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+	}
+
+	@Test
+	public void testRenderCached()
+	{
+		final CountingOverlay overlay = new CountingOverlay();
+		final Point point = new Point(5, 5);
+
+		// rendered directly to learn its size, then into the cache
+		frame(overlay, point);
+		frame(overlay, point);
+		assertEquals(2, overlay.renders);
+
+		// frames and moves draw the cached image
+		frame(overlay, point);
+		frame(overlay, new Point(50, 50));
+		assertEquals(2, overlay.renders);
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(55, 55));
+		assertEquals(new Dimension(10, 10), overlay.getBounds().getSize());
+
+		overlay.invalidate();
+		frame(overlay, point);
+		frame(overlay, point);
+		assertEquals(3, overlay.renders);
+
+		overlayRenderer.onGameTick(new GameTick());
+		frame(overlay, point);
+		frame(overlay, point);
+		assertEquals(4, overlay.renders);
+
+		overlay.setPreferredSize(new Dimension(20, 20));
+		frame(overlay, point);
+		frame(overlay, point);
+		assertEquals(5, overlay.renders);
+	}
+}
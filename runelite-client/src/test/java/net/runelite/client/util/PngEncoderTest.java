@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class PngEncoderTest
+{
+	private static BufferedImage image(int type, int width, int height)
+	{
+		BufferedImage image = new BufferedImage(width, height, type);
+		Graphics2D graphics = image.createGraphics();
+		Random random = new Random(42);
+		for (int i = 0; i < 50; ++i)
+		{
+			graphics.setColor(new Color(random.nextInt(), true));
+			graphics.fillRect(random.nextInt(width), random.nextInt(height), random.nextInt(width), random.nextInt(height));
+		}
+		graphics.dispose();
+
+		// and some noise, which filters poorly
+		for (int y = 0; y < height / 4; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				image.setRGB(x, y, random.nextInt());
+			}
+		}
+		return image;
+	}
+
+	@Test
+	public void testEncode() throws IOException
+	{
+		PngEncoder encoder = new PngEncoder();
+		for (int type : new int[]{BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB, BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_4BYTE_ABGR})
+		{
+			// the encoder is reused with differently sized images
+			for (int size : new int[]{1, 37, 300})
+			{
+				BufferedImage image = image(type, size, size * 2);
+				for (int level = 0; level <= 9; level += 3)
+				{
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					encoder.encode(image, level, out);
+
+					BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+					assertEquals(image.getWidth(), decoded.getWidth());
+					assertEquals(image.getHeight(), decoded.getHeight());
+					assertEquals(image.getColorModel().hasAlpha(), decoded.getColorModel().hasAlpha());
+					for (int y = 0; y < image.getHeight(); ++y)
+					{
+						for (int x = 0; x < image.getWidth(); ++x)
+						{
+							assertEquals(image.getRGB(x, y), decoded.getRGB(x, y));
+						}
+					}
+				}
+			}
+		}
+	}
+}
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.util;
 
+import java.util.Arrays;
 import static net.runelite.client.util.WildcardMatcher.matches;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -41,4 +42,33 @@ public class WildcardMatcherTest
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 		assertTrue(matches("string $ with special character", "string $ with special character"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testMatchesWildcards()
+	{
+		assertTrue(matches("*whip", "Abyssal whip"));
+		assertTrue(matches("a*b*c", "AxxBxxC"));
+		assertFalse(matches("a*a", "a"));
+		assertFalse(matches("*whip", "Abyssal whip (or)"));
+		assertTrue(matches("*", ""));
+		assertTrue(matches("rune.*", "Rune.pouch"));
+		assertFalse(matches("rune.*", "Rune pouch"));
+	}
+
+	@Test
+	public void testWildcardSet()
+	{
+		WildcardSet set = WildcardSet.of(Arrays.asList("Goblin", "*guard*", "hill giant"));
+		assertTrue(set.matches("goblin"));
+		assertTrue(set.matches("Hill Giant"));
+		assertTrue(set.matches("Al Kharid Guard"));
+		assertFalse(set.matches("Man"));
+		assertFalse(set.matches("Goblins"));
+
+		assertTrue(set.matchesWildcard("Guard"));
+		assertFalse(set.matchesWildcard("Goblin"));
+		// verdicts are cached
+		assertTrue(set.matches("goblin"));
+		assertFalse(set.matchesWildcard("goblin"));
+	}
+}